@@ -0,0 +1,62 @@
+package com.basesetup.playwright.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Writes the static HTML fixtures used by the benchmarks, which are served from an in-process server
+ * so the numbers do not depend on network access.
+ */
+public class BenchmarkFixtures {
+    public static final int[] TABLE_SIZES = {10, 100, 1000};
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Generates the fixtures into a temporary directory.
+     *
+     * @return The directory; remove it with {@link #delete(Path)} when the trial ends.
+     */
+    public static Path generate() throws IOException {
+        Path root = Files.createTempDirectory("benchmark-fixtures");
+        Files.writeString(root.resolve("elements.html"), """
+                <!DOCTYPE html>
+                <html><body>
+                <input id="username" placeholder="Username">
+                <button id="submit" data-testid="submit">Submit order</button>
+                <div class="message">Benchmark message</div>
+                </body></html>
+                """);
+
+        StringBuilder dropdown = new StringBuilder("<!DOCTYPE html><html><body><select id=\"options\">");
+        for (int i = 0; i < 50; i++) {
+            dropdown.append("<option value=\"").append(i).append("\">Option ").append(i).append("</option>");
+        }
+        Files.writeString(root.resolve("dropdown.html"), dropdown.append("</select></body></html>").toString());
+
+        for (int rows : TABLE_SIZES) {
+            StringBuilder table = new StringBuilder("<!DOCTYPE html><html><body><table id=\"data\"><tr><th>Id</th><th>Name</th><th>Status</th></tr>");
+            for (int i = 0; i < rows; i++) {
+                table.append("<tr><td>").append(i).append("</td><td>Name ").append(i).append("</td><td>Active</td></tr>");
+            }
+            Files.writeString(root.resolve("table-" + rows + ".html"), table.append("</table></body></html>").toString());
+        }
+
+        return root;
+    }
+
+    /**
+     * Deletes a fixture directory created by {@link #generate()}.
+     */
+    public static void delete(Path root) throws IOException {
+        try (Stream<Path> files = Files.walk(root)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+}
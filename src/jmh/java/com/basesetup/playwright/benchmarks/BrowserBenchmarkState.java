@@ -0,0 +1,38 @@
+package com.basesetup.playwright.benchmarks;
+
+import com.basesetup.playwright.support.FixtureServer;
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Playwright;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Shared browser lifecycle for benchmarks that drive a page: one headless Chromium per trial,
+ * pointed at the local fixture server.
+ */
+public abstract class BrowserBenchmarkState {
+    protected Path fixtureDir;
+    protected FixtureServer server;
+    protected Playwright playwright;
+    protected Browser browser;
+    protected Page page;
+
+    protected void openFixture(String fixture) throws Exception {
+        fixtureDir = BenchmarkFixtures.generate();
+        server = new FixtureServer(fixtureDir, 2);
+        playwright = Playwright.create();
+        browser = playwright.chromium().launch(new BrowserType.LaunchOptions().setHeadless(true));
+        page = browser.newPage();
+        page.navigate(server.getBaseUrl() + fixture);
+    }
+
+    protected void closeFixture() throws IOException {
+        if (browser != null) browser.close();
+        if (playwright != null) playwright.close();
+        if (server != null) server.close();
+        if (fixtureDir != null) BenchmarkFixtures.delete(fixtureDir);
+    }
+}
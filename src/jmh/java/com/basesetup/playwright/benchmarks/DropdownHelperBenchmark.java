@@ -0,0 +1,47 @@
+package com.basesetup.playwright.benchmarks;
+
+import com.basesetup.playwright.helpers.DropdownHelper;
+import com.microsoft.playwright.Locator;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DropdownHelper read paths against a 50-option select.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DropdownHelperBenchmark extends BrowserBenchmarkState {
+    private DropdownHelper dropdownHelper;
+    private Locator select;
+    private Locator options;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        openFixture("dropdown.html");
+        dropdownHelper = new DropdownHelper();
+        select = page.locator("#options");
+        options = page.locator("#options option");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        closeFixture();
+    }
+
+    @Benchmark
+    public List<String> getAllOptions() {
+        return dropdownHelper.getAllOptions(options);
+    }
+
+    @Benchmark
+    public String getSelectedOption() {
+        return dropdownHelper.getSelectedOption(select);
+    }
+}
@@ -0,0 +1,84 @@
+package com.basesetup.playwright.benchmarks;
+
+import com.basesetup.playwright.helpers.GeneralHelper;
+import com.basesetup.playwright.locators.BaseLocators;
+import com.microsoft.playwright.Locator;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the BaseLocators strategies and GeneralHelper actions compared with raw Playwright calls.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LocatorBenchmark extends BrowserBenchmarkState {
+    private BaseLocators locators;
+    private GeneralHelper helper;
+    private Locator input;
+    private Locator button;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        openFixture("elements.html");
+        locators = new BaseLocators(page);
+        helper = new GeneralHelper(page);
+        input = page.locator("#username");
+        button = page.locator("#submit");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        closeFixture();
+    }
+
+    @Benchmark
+    public Locator byId() {
+        return locators.byId("submit");
+    }
+
+    @Benchmark
+    public Locator byRole() {
+        return locators.byRole("button", "Submit order");
+    }
+
+    @Benchmark
+    public Locator byXpath() {
+        return locators.byXpath("//button[@id='submit']");
+    }
+
+    @Benchmark
+    public Locator byText() {
+        return locators.byText("Submit order");
+    }
+
+    @Benchmark
+    public int rawLocatorCount() {
+        return page.locator("#submit").count();
+    }
+
+    @Benchmark
+    public void helperClick() {
+        helper.click(button);
+    }
+
+    @Benchmark
+    public void rawClick() {
+        button.click();
+    }
+
+    @Benchmark
+    public void helperFillInput() {
+        helper.fillInput(input, "standard_user");
+    }
+
+    @Benchmark
+    public String helperGetText() {
+        return helper.getText(button);
+    }
+}
@@ -0,0 +1,38 @@
+package com.basesetup.playwright.benchmarks;
+
+import com.basesetup.playwright.utils.config.PropertyFileReader;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configuration lookups, which run on every context, page and helper call that reads a setting.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertyFileReaderBenchmark {
+
+    @Benchmark
+    public String getProperty() {
+        return PropertyFileReader.getProperty("baseUrl");
+    }
+
+    @Benchmark
+    public String getMissingPropertyWithDefault() {
+        return PropertyFileReader.getProperty("missingKey", "fallback");
+    }
+
+    @Benchmark
+    public boolean getBooleanProperty() {
+        return PropertyFileReader.getBooleanProperty("headless", true);
+    }
+
+    @Benchmark
+    public int getIntProperty() {
+        return PropertyFileReader.getIntProperty("timeout", 0);
+    }
+}
@@ -0,0 +1,53 @@
+package com.basesetup.playwright.benchmarks;
+
+import com.basesetup.playwright.helpers.TableHelper;
+import com.microsoft.playwright.Locator;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TableHelper extraction cost as the table grows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TableHelperBenchmark extends BrowserBenchmarkState {
+    @Param({"10", "100", "1000"})
+    public int rows;
+
+    private TableHelper tableHelper;
+    private Locator table;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        openFixture("table-" + rows + ".html");
+        tableHelper = new TableHelper(page);
+        table = page.locator("#data");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        closeFixture();
+    }
+
+    @Benchmark
+    public List<List<String>> getTableData() {
+        return tableHelper.getTableData(table);
+    }
+
+    @Benchmark
+    public List<String> getColumnValues() {
+        return tableHelper.getColumnValues(table, 1);
+    }
+
+    @Benchmark
+    public int findLastRowByCellText() {
+        return tableHelper.findRowByCellText(table, 0, String.valueOf(rows - 1));
+    }
+}
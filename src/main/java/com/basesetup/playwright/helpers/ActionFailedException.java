@@ -0,0 +1,39 @@
+package com.basesetup.playwright.helpers;
+
+/**
+ * Thrown in strict mode when a helper or locator action fails, instead of logging and carrying on.
+ */
+public class ActionFailedException extends RuntimeException {
+    private final String action;
+    private final String target;
+    private final long elapsedMs;
+
+    public ActionFailedException(String action, Object target, long elapsedMs, Throwable cause) {
+        super("❌ " + action + " failed on " + target + " after " + elapsedMs + " ms"
+                + (cause != null ? ": " + cause.getMessage() : ""), cause);
+        this.action = action;
+        this.target = String.valueOf(target);
+        this.elapsedMs = elapsedMs;
+    }
+
+    /**
+     * @return The action that failed, e.g. "click".
+     */
+    public String getAction() {
+        return action;
+    }
+
+    /**
+     * @return The locator, selector or URL the action was applied to.
+     */
+    public String getTarget() {
+        return target;
+    }
+
+    /**
+     * @return How long the action ran before failing, in milliseconds.
+     */
+    public long getElapsedMs() {
+        return elapsedMs;
+    }
+}
@@ -1,5 +1,6 @@
 package com.basesetup.playwright.helpers;
 
+import com.basesetup.playwright.utils.scripts.InPageHelpers;
 import com.microsoft.playwright.Locator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -100,7 +101,7 @@ public class AssertionHelper {
      * @param expected  Expected text.
      */
     public static void assertElementText(Locator locator, String expected) {
-        String actualText = locator.textContent().trim();
+        String actualText = (String) InPageHelpers.call(locator, "trimmedText");
         try {
             Assertions.assertEquals(expected, actualText, "Element text does not match.");
             logger.info("✅ Assertion Passed: Element text matches. Expected = '{}', Actual = '{}'", expected, actualText);
@@ -1,9 +1,13 @@
 package com.basesetup.playwright.helpers;
 
+import com.basesetup.playwright.utils.managers.ScenarioDeadline;
+import com.basesetup.playwright.utils.scripts.InPageHelpers;
 import com.microsoft.playwright.Locator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
+
 /**
  * Helper class for handling checkbox interactions in Playwright.
  */
@@ -16,6 +20,8 @@ public class CheckboxHelper {
      * @param locator Playwright Locator for the checkbox
      */
     public void check(Locator locator) {
+        ScenarioDeadline.recap();
+        long start = StrictMode.start();
         try {
             if (!locator.isChecked()) {
                 locator.check();
@@ -25,6 +31,7 @@ public class CheckboxHelper {
             }
         } catch (Exception e) {
             logger.error("❌ Error checking checkbox: {}", e.getMessage(), e);
+            StrictMode.fail("check", locator, start, e);
         }
     }
 
@@ -34,6 +41,8 @@ public class CheckboxHelper {
      * @param locator Playwright Locator for the checkbox
      */
     public void uncheck(Locator locator) {
+        ScenarioDeadline.recap();
+        long start = StrictMode.start();
         try {
             if (locator.isChecked()) {
                 locator.uncheck();
@@ -43,6 +52,7 @@ public class CheckboxHelper {
             }
         } catch (Exception e) {
             logger.error("❌ Error unchecking checkbox: {}", e.getMessage(), e);
+            StrictMode.fail("uncheck", locator, start, e);
         }
     }
 
@@ -52,11 +62,14 @@ public class CheckboxHelper {
      * @param locator Playwright Locator for the checkbox
      */
     public void toggleCheckbox(Locator locator) {
+        ScenarioDeadline.recap();
+        long start = StrictMode.start();
         try {
             locator.click();
             logger.info("🔄 Toggled the checkbox: {}", locator);
         } catch (Exception e) {
             logger.error("❌ Error toggling checkbox: {}", e.getMessage(), e);
+            StrictMode.fail("toggleCheckbox", locator, start, e);
         }
     }
 
@@ -67,6 +80,8 @@ public class CheckboxHelper {
      * @param locator Playwright Locator for the checkbox
      */
     public void checkWithVerification(Locator locator) {
+        ScenarioDeadline.recap();
+        long start = StrictMode.start();
         try {
             if (!locator.isChecked()) {
                 locator.check();
@@ -74,10 +89,12 @@ public class CheckboxHelper {
                     logger.info("✅ Checkbox successfully checked: {}", locator);
                 } else {
                     logger.warn("⚠️ Failed to check the checkbox: {}", locator);
+                    StrictMode.fail("checkWithVerification", locator, start, new IllegalStateException("Checkbox is still unchecked"));
                 }
             }
         } catch (Exception e) {
             logger.error("❌ Error ensuring checkbox is checked: {}", e.getMessage(), e);
+            StrictMode.fail("checkWithVerification", locator, start, e);
         }
     }
 
@@ -88,6 +105,8 @@ public class CheckboxHelper {
      * @param locator Playwright Locator for the checkbox
      */
     public void uncheckWithVerification(Locator locator) {
+        ScenarioDeadline.recap();
+        long start = StrictMode.start();
         try {
             if (locator.isChecked()) {
                 locator.uncheck();
@@ -95,10 +114,12 @@ public class CheckboxHelper {
                     logger.info("✅ Checkbox successfully unchecked: {}", locator);
                 } else {
                     logger.warn("⚠️ Failed to uncheck the checkbox: {}", locator);
+                    StrictMode.fail("uncheckWithVerification", locator, start, new IllegalStateException("Checkbox is still checked"));
                 }
             }
         } catch (Exception e) {
             logger.error("❌ Error ensuring checkbox is unchecked: {}", e.getMessage(), e);
+            StrictMode.fail("uncheckWithVerification", locator, start, e);
         }
     }
 
@@ -110,12 +131,36 @@ public class CheckboxHelper {
      */
     public boolean isChecked(Locator locator) {
         boolean checked = false;
+        ScenarioDeadline.recap();
+        long start = StrictMode.start();
         try {
             checked = locator.isChecked();
             logger.info("📌 Checkbox checked status [{}]: {}", locator, checked);
         } catch (Exception e) {
             logger.error("❌ Error checking checkbox status: {}", e.getMessage(), e);
+            StrictMode.fail("isChecked", locator, start, e);
         }
         return checked;
     }
+
+    /**
+     * Reads the checked state of every checkbox matched by the locator in a single call.
+     *
+     * @param locator Playwright Locator matching one or more checkboxes
+     * @return Checked states in document order, or an empty list on error
+     */
+    @SuppressWarnings("unchecked")
+    public List<Boolean> getCheckedStates(Locator locator) {
+        ScenarioDeadline.recap();
+        long start = StrictMode.start();
+        try {
+            List<Boolean> states = (List<Boolean>) InPageHelpers.callAll(locator, "checkedStates");
+            logger.info("📌 Checkbox states [{}]: {}", locator, states);
+            return states;
+        } catch (Exception e) {
+            logger.error("❌ Error reading checkbox states: {}", e.getMessage(), e);
+            StrictMode.fail("getCheckedStates", locator, start, e);
+            return List.of();
+        }
+    }
 }
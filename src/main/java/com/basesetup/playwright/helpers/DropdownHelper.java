@@ -1,5 +1,7 @@
 package com.basesetup.playwright.helpers;
 
+import com.basesetup.playwright.utils.managers.ScenarioDeadline;
+import com.basesetup.playwright.utils.scripts.InPageHelpers;
 import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.options.SelectOption;
 import org.slf4j.Logger;
@@ -20,12 +22,15 @@ public class DropdownHelper {
      * @param text    Visible text of the option to select
      */
     public void selectByText(Locator locator, String text) {
+        ScenarioDeadline.recap();
+        long start = StrictMode.start();
         try {
             logger.info("🔽 Selecting '{}' from dropdown {}", text, locator);
             locator.selectOption(text);
             logger.info("✅ Successfully selected '{}'", text);
         } catch (Exception e) {
             logger.error("❌ Error selecting '{}' from dropdown: {}", text, e.getMessage(), e);
+            StrictMode.fail("selectByText", locator, start, e);
         }
     }
 
@@ -36,12 +41,15 @@ public class DropdownHelper {
      * @param value   Value attribute of the option to select
      */
     public void selectByValue(Locator locator, String value) {
+        ScenarioDeadline.recap();
+        long start = StrictMode.start();
         try {
             logger.info("🔽 Selecting value '{}' from dropdown {}", value, locator);
             locator.selectOption(new SelectOption().setValue(value));
             logger.info("✅ Successfully selected value '{}'", value);
         } catch (Exception e) {
             logger.error("❌ Error selecting value '{}' from dropdown: {}", value, e.getMessage(), e);
+            StrictMode.fail("selectByValue", locator, start, e);
         }
     }
 
@@ -52,12 +60,15 @@ public class DropdownHelper {
      * @param index   Index of the option to select (starting from 0)
      */
     public void selectByIndex(Locator locator, int index) {
+        ScenarioDeadline.recap();
+        long start = StrictMode.start();
         try {
             logger.info("🔽 Selecting index '{}' from dropdown {}", index, locator);
             locator.selectOption(new SelectOption().setIndex(index));
             logger.info("✅ Successfully selected index '{}'", index);
         } catch (Exception e) {
             logger.error("❌ Error selecting index '{}' from dropdown: {}", index, e.getMessage(), e);
+            StrictMode.fail("selectByIndex", locator, start, e);
         }
     }
 
@@ -68,12 +79,15 @@ public class DropdownHelper {
      * @return The visible text of the selected option
      */
     public String getSelectedOption(Locator locator) {
+        ScenarioDeadline.recap();
+        long start = StrictMode.start();
         try {
-            String selected = locator.evaluate("el => el.options[el.selectedIndex].text").toString();
+            String selected = (String) InPageHelpers.call(locator, "selectedText");
             logger.info("📌 Selected option: {}", selected);
             return selected;
         } catch (Exception e) {
             logger.error("❌ Error getting selected option: {}", e.getMessage(), e);
+            StrictMode.fail("getSelectedOption", locator, start, e);
             return null;
         }
     }
@@ -85,12 +99,15 @@ public class DropdownHelper {
      * @return List of all options available in the dropdown
      */
     public List<String> getAllOptions(Locator locator) {
+        ScenarioDeadline.recap();
+        long start = StrictMode.start();
         try {
-            List<String> options = (List<String>) locator.evaluateAll("options => options.map(option => option.textContent)");
+            List<String> options = (List<String>) InPageHelpers.callAll(locator, "optionTexts");
             logger.info("📌 Dropdown options: {}", options);
             return options;
         } catch (Exception e) {
             logger.error("❌ Error retrieving dropdown options: {}", e.getMessage(), e);
+            StrictMode.fail("getAllOptions", locator, start, e);
             return null;
         }
     }
@@ -103,6 +120,8 @@ public class DropdownHelper {
      * @return true if the option is available, false otherwise
      */
     public boolean isOptionAvailable(Locator locator, String option) {
+        ScenarioDeadline.recap();
+        long start = StrictMode.start();
         try {
             List<String> options = getAllOptions(locator);
             boolean available = options != null && options.contains(option);
@@ -110,6 +129,7 @@ public class DropdownHelper {
             return available;
         } catch (Exception e) {
             logger.error("❌ Error checking if option '{}' is available: {}", option, e.getMessage(), e);
+            StrictMode.fail("isOptionAvailable", locator, start, e);
             return false;
         }
     }
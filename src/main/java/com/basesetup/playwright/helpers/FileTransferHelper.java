@@ -0,0 +1,275 @@
+package com.basesetup.playwright.helpers;
+
+import com.basesetup.playwright.utils.config.PropertyFileReader;
+import com.basesetup.playwright.utils.managers.PlaywrightManager;
+import com.basesetup.playwright.utils.managers.ScenarioDeadline;
+import com.microsoft.playwright.Download;
+import com.microsoft.playwright.FileChooser;
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.TimeoutError;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Helper class for file downloads and uploads. Downloads are streamed to disk through NIO channels
+ * in fixed-size chunks, with the checksum and CSV row count computed on the way, so even
+ * multi-hundred-MB exports are never held in memory. Uploads pass file paths to Playwright rather
+ * than file contents.
+ */
+public class FileTransferHelper {
+    private final Page page;
+    private static final Logger logger = LoggerFactory.getLogger(FileTransferHelper.class);
+    private static final int BUFFER_SIZE = 1024 * 1024;
+
+    public FileTransferHelper(Page page) {
+        this.page = page;
+    }
+
+    /**
+     * Outcome of a streamed download.
+     *
+     * @param path       Where the file was written.
+     * @param bytes      Size of the file.
+     * @param checksum   Hex digest of the content (downloadChecksumAlgorithm, default SHA-256).
+     * @param csvRows    Number of CSV records, header included.
+     * @param durationMs Time from trigger to file on disk.
+     */
+    public record DownloadResult(Path path, long bytes, String checksum, long csvRows, long durationMs) {
+    }
+
+    /**
+     * Counts CSV records chunk by chunk. Line breaks inside quoted fields do not end a record,
+     * and a last record without a trailing line break still counts.
+     */
+    private static final class CsvRowCounter {
+        private long rows;
+        private boolean inQuotes;
+        private boolean pending;
+
+        private void update(ByteBuffer chunk) {
+            for (int i = chunk.position(); i < chunk.limit(); i++) {
+                byte b = chunk.get(i);
+                if (b == '"') {
+                    inQuotes = !inQuotes; // An escaped quote ("") toggles twice
+                    pending = true;
+                } else if (b == '\n' && !inQuotes) {
+                    rows++;
+                    pending = false;
+                } else if (b != '\r') {
+                    pending = true;
+                }
+            }
+        }
+
+        private long rows() {
+            return pending ? rows + 1 : rows;
+        }
+    }
+
+    /**
+     * Runs the action that starts a download and streams the file into downloadDir (default target/downloads),
+     * in a subdirectory per browser type so browsers running side by side do not overwrite each other's files.
+     *
+     * @param trigger Action that starts the download, e.g. a click on an export button.
+     * @return The download result, or null if the download failed.
+     */
+    public DownloadResult download(Runnable trigger) {
+        return download(trigger, Path.of(PropertyFileReader.getProperty("downloadDir", "target/downloads")).resolve(PlaywrightManager.getBrowserType()));
+    }
+
+    /**
+     * Runs the action that starts a download and streams the file into the given directory. The
+     * timeout (downloadTimeout, capped by the scenario budget) covers both the wait for the download
+     * and the transfer to disk; a transfer still running when it expires is abandoned and its partial
+     * file deleted.
+     *
+     * @param trigger   Action that starts the download.
+     * @param targetDir Directory to write the file to.
+     * @return The download result, or null if the download failed.
+     */
+    public DownloadResult download(Runnable trigger, Path targetDir) {
+        int timeout = ScenarioDeadline.cap("download", PropertyFileReader.getIntProperty("downloadTimeout", 120000));
+        ScenarioDeadline.recap();
+        long start = StrictMode.start();
+        try {
+            logger.info("📥 Waiting for download (timeout {} ms)", timeout);
+            Download download = page.waitForDownload(new Page.WaitForDownloadOptions().setTimeout(timeout), trigger);
+            Path target = targetDir.resolve(download.suggestedFilename());
+            DownloadResult result;
+            try (InputStream in = download.createReadStream()) {
+                result = stream(Channels.newChannel(in), target, start, start + timeout * 1_000_000L);
+            }
+            logger.info("✅ Downloaded {} | {} bytes | {} CSV row(s) | Checksum: {} | {} ms",
+                    result.path(), result.bytes(), result.csvRows(), result.checksum(), result.durationMs());
+            return result;
+        } catch (Exception e) {
+            logger.error("❌ Failed to download file: {}", e.getMessage(), e);
+            StrictMode.fail("download", targetDir, start, e);
+            return null;
+        }
+    }
+
+    /**
+     * Copies a channel to a file chunk by chunk, updating the digest and row count per chunk.
+     * The deadline is checked after every chunk.
+     *
+     * @throws TimeoutError If the copy is not complete by deadlineNanos.
+     */
+    private static DownloadResult stream(ReadableByteChannel source, Path target, long startNanos, long deadlineNanos) throws IOException {
+        Files.createDirectories(target.toAbsolutePath().getParent());
+        MessageDigest digest = newDigest();
+        CsvRowCounter rows = new CsvRowCounter();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        long bytes = 0;
+        try (FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (source.read(buffer) != -1) {
+                buffer.flip();
+                rows.update(buffer);
+                digest.update(buffer.duplicate());
+                while (buffer.hasRemaining()) {
+                    bytes += out.write(buffer);
+                }
+                buffer.clear();
+                if (System.nanoTime() > deadlineNanos) {
+                    out.close();
+                    Files.deleteIfExists(target);
+                    throw new TimeoutError("Download of " + target.getFileName() + " not complete within "
+                            + (deadlineNanos - startNanos) / 1_000_000 + " ms | " + bytes + " bytes written");
+                }
+            }
+        }
+        return new DownloadResult(target, bytes, HexFormat.of().formatHex(digest.digest()), rows.rows(), (System.nanoTime() - startNanos) / 1_000_000);
+    }
+
+    /**
+     * Computes the checksum of a file without loading it into memory.
+     *
+     * @param file The file.
+     * @return Hex digest (downloadChecksumAlgorithm, default SHA-256), or null on error.
+     */
+    public String checksum(Path file) {
+        ScenarioDeadline.recap();
+        long start = StrictMode.start();
+        try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+            MessageDigest digest = newDigest();
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            while (in.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (Exception e) {
+            logger.error("❌ Failed to compute checksum of {}: {}", file, e.getMessage(), e);
+            StrictMode.fail("checksum", file, start, e);
+            return null;
+        }
+    }
+
+    /**
+     * Counts the CSV records of a file without loading it into memory.
+     *
+     * @param file The CSV file.
+     * @return Number of records, header included, or -1 on error.
+     */
+    public long countCsvRows(Path file) {
+        ScenarioDeadline.recap();
+        long start = StrictMode.start();
+        try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+            CsvRowCounter rows = new CsvRowCounter();
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            while (in.read(buffer) != -1) {
+                buffer.flip();
+                rows.update(buffer);
+                buffer.clear();
+            }
+            logger.info("📊 {} has {} CSV row(s)", file, rows.rows());
+            return rows.rows();
+        } catch (Exception e) {
+            logger.error("❌ Failed to count CSV rows of {}: {}", file, e.getMessage(), e);
+            StrictMode.fail("countCsvRows", file, start, e);
+            return -1;
+        }
+    }
+
+    /**
+     * Checks a download against an expected checksum.
+     *
+     * @param result   The download.
+     * @param expected Expected hex digest, case-insensitive.
+     * @return true if they match.
+     */
+    public boolean verifyChecksum(DownloadResult result, String expected) {
+        boolean matches = result != null && result.checksum().equalsIgnoreCase(expected);
+        logger.info("🔐 Checksum of {} matches {}: {}", result != null ? result.path() : null, expected, matches);
+        return matches;
+    }
+
+    /**
+     * Uploads files through a file input. Playwright receives the paths, not the contents.
+     *
+     * @param input The &lt;input type="file"&gt; element.
+     * @param files Files to upload.
+     */
+    public void upload(Locator input, Path... files) {
+        ScenarioDeadline.recap();
+        long start = StrictMode.start();
+        try {
+            logger.info("📤 Uploading {} file(s) ({} bytes) into {}", files.length, totalSize(files), input);
+            input.setInputFiles(files);
+        } catch (Exception e) {
+            logger.error("❌ Failed to upload files into {}: {}", input, e.getMessage(), e);
+            StrictMode.fail("upload", input, start, e);
+        }
+    }
+
+    /**
+     * Uploads files through the file chooser opened by an action, for uploads without a visible input.
+     *
+     * @param trigger Action that opens the file chooser.
+     * @param files   Files to upload.
+     */
+    public void uploadViaFileChooser(Runnable trigger, Path... files) {
+        ScenarioDeadline.recap();
+        long start = StrictMode.start();
+        try {
+            logger.info("📤 Uploading {} file(s) ({} bytes) via file chooser", files.length, totalSize(files));
+            FileChooser chooser = page.waitForFileChooser(trigger);
+            chooser.setFiles(files);
+        } catch (Exception e) {
+            logger.error("❌ Failed to upload files via file chooser: {}", e.getMessage(), e);
+            StrictMode.fail("uploadViaFileChooser", "file chooser", start, e);
+        }
+    }
+
+    private static long totalSize(Path... files) throws IOException {
+        long total = 0;
+        for (Path file : files) {
+            total += Files.size(file);
+        }
+        return total;
+    }
+
+    private static MessageDigest newDigest() {
+        String algorithm = PropertyFileReader.getProperty("downloadChecksumAlgorithm", "SHA-256");
+        try {
+            return MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(algorithm + " not available", e);
+        }
+    }
+}
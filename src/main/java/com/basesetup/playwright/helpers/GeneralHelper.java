@@ -1,5 +1,8 @@
 package com.basesetup.playwright.helpers;
 
+import com.basesetup.playwright.utils.config.PropertyFileReader;
+import com.basesetup.playwright.utils.managers.ScenarioDeadline;
+import com.basesetup.playwright.utils.network.InFlightRequestTracker;
 import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
 import org.slf4j.Logger;
@@ -22,11 +25,14 @@ public class GeneralHelper {
      * @param locator The element to click.
      */
     public void click(Locator locator) {
+        ScenarioDeadline.recap();
+        long start = StrictMode.start();
         try {
             logger.info("🖱️ Clicking element: {}", locator);
             locator.click();
         } catch (Exception e) {
             logger.error("❌ Failed to click element {}: {}", locator, e.getMessage(), e);
+            StrictMode.fail("click", locator, start, e);
         }
     }
 
@@ -37,11 +43,14 @@ public class GeneralHelper {
      * @param text    The text to type.
      */
     public void fillInput(Locator locator, String text) {
+        ScenarioDeadline.recap();
+        long start = StrictMode.start();
         try {
             logger.info("⌨️ Typing '{}' into {}", text, locator);
             locator.fill(text);
         } catch (Exception e) {
             logger.error("❌ Failed to type into {}: {}", locator, e.getMessage(), e);
+            StrictMode.fail("fillInput", locator, start, e);
         }
     }
 
@@ -52,11 +61,14 @@ public class GeneralHelper {
      * @return The text content.
      */
     public String getText(Locator locator) {
+        ScenarioDeadline.recap();
+        long start = StrictMode.start();
         try {
             logger.info("📋 Getting text from {}", locator);
             return locator.textContent();
         } catch (Exception e) {
             logger.error("❌ Failed to get text from {}: {}", locator, e.getMessage(), e);
+            StrictMode.fail("getText", locator, start, e);
             return "";
         }
     }
@@ -67,11 +79,14 @@ public class GeneralHelper {
      * @param locator The input field.
      */
     public void clearText(Locator locator) {
+        ScenarioDeadline.recap();
+        long start = StrictMode.start();
         try {
             logger.info("🧹 Clearing text from {}", locator);
             locator.clear();
         } catch (Exception e) {
             logger.error("❌ Failed to clear text in {}: {}", locator, e.getMessage(), e);
+            StrictMode.fail("clearText", locator, start, e);
         }
     }
 
@@ -82,12 +97,15 @@ public class GeneralHelper {
      * @return true if visible, false otherwise.
      */
     public boolean isVisible(Locator locator) {
+        ScenarioDeadline.recap();
+        long start = StrictMode.start();
         try {
             boolean visible = locator.isVisible();
             logger.info("👀 Checking visibility of {}: {}", locator, visible);
             return visible;
         } catch (Exception e) {
             logger.error("❌ Failed to check visibility of {}: {}", locator, e.getMessage(), e);
+            StrictMode.fail("isVisible", locator, start, e);
             return false;
         }
     }
@@ -98,11 +116,14 @@ public class GeneralHelper {
      * @param locator The element.
      */
     public void hover(Locator locator) {
+        ScenarioDeadline.recap();
+        long start = StrictMode.start();
         try {
             logger.info("🎯 Hovering over {}", locator);
             locator.hover();
         } catch (Exception e) {
             logger.error("❌ Failed to hover over {}: {}", locator, e.getMessage(), e);
+            StrictMode.fail("hover", locator, start, e);
         }
     }
 
@@ -110,14 +131,46 @@ public class GeneralHelper {
      * Waits for an element to be visible.
      *
      * @param locator The element to wait for.
-     * @param timeout Timeout in milliseconds.
+     * @param timeout Timeout in milliseconds, capped at the remaining scenario budget.
      */
     public void waitForVisibility(Locator locator, int timeout) {
+        timeout = ScenarioDeadline.cap("waitForVisibility " + locator, timeout);
+        ScenarioDeadline.recap();
+        long start = StrictMode.start();
         try {
             logger.info("⏳ Waiting for visibility of {} for {} ms", locator, timeout);
             locator.waitFor(new Locator.WaitForOptions().setTimeout(timeout));
         } catch (Exception e) {
             logger.error("❌ Failed to wait for visibility of {}: {}", locator, e.getMessage(), e);
+            StrictMode.fail("waitForVisibility", locator, start, e);
+        }
+    }
+
+    /**
+     * Waits until the page has had no tracked request in flight for networkQuietMs (default 500 ms).
+     *
+     * @param timeout Timeout in milliseconds.
+     */
+    public void waitForNetworkSettled(int timeout) {
+        waitForNetworkSettled(PropertyFileReader.getIntProperty("networkQuietMs", 500), timeout);
+    }
+
+    /**
+     * Waits until the page has had no tracked request in flight for the quiet period.
+     *
+     * @param quietMs How long the network must stay idle, in milliseconds.
+     * @param timeout Timeout in milliseconds, capped at the remaining scenario budget.
+     */
+    public void waitForNetworkSettled(int quietMs, int timeout) {
+        timeout = ScenarioDeadline.cap("waitForNetworkSettled", timeout);
+        ScenarioDeadline.recap();
+        long start = StrictMode.start();
+        try {
+            logger.info("⏳ Waiting for network to settle ({} ms quiet, timeout {} ms)", quietMs, timeout);
+            InFlightRequestTracker.forPage(page).awaitNetworkSettled(quietMs, timeout);
+        } catch (Exception e) {
+            logger.error("❌ Network did not settle: {}", e.getMessage(), e);
+            StrictMode.fail("waitForNetworkSettled", "network", start, e);
         }
     }
 
@@ -127,11 +180,14 @@ public class GeneralHelper {
      * @param locator The element.
      */
     public void doubleClick(Locator locator) {
+        ScenarioDeadline.recap();
+        long start = StrictMode.start();
         try {
             logger.info("🖱️🖱️ Double-clicking {}", locator);
             locator.dblclick();
         } catch (Exception e) {
             logger.error("❌ Failed to double-click {}: {}", locator, e.getMessage(), e);
+            StrictMode.fail("doubleClick", locator, start, e);
         }
     }
 
@@ -143,6 +199,8 @@ public class GeneralHelper {
      * @return true if element contains the text, false otherwise.
      */
     public boolean containsText(Locator locator, String text) {
+        ScenarioDeadline.recap();
+        long start = StrictMode.start();
         try {
             String elementText = locator.textContent();
             boolean contains = elementText != null && elementText.contains(text);
@@ -150,6 +208,7 @@ public class GeneralHelper {
             return contains;
         } catch (Exception e) {
             logger.error("❌ Failed to check text in {}: {}", locator, e.getMessage(), e);
+            StrictMode.fail("containsText", locator, start, e);
             return false;
         }
     }
@@ -1,5 +1,7 @@
 package com.basesetup.playwright.helpers;
 
+import com.basesetup.playwright.utils.managers.ScenarioDeadline;
+import com.basesetup.playwright.utils.metrics.PerformanceRecorder;
 import com.microsoft.playwright.Page;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,11 +23,15 @@ public class NavigationHelper {
      * @param url The URL to visit.
      */
     public void goTo(String url) {
+        ScenarioDeadline.recap();
+        long start = StrictMode.start();
         try {
             logger.info("🌍 Navigating to {}", url);
             page.navigate(url);
+            PerformanceRecorder.capture(page);
         } catch (Exception e) {
             logger.error("❌ Failed to navigate to {}: {}", url, e.getMessage(), e);
+            StrictMode.fail("goTo", url, start, e);
         }
     }
 
@@ -33,11 +39,15 @@ public class NavigationHelper {
      * Refreshes the current page.
      */
     public void refresh() {
+        ScenarioDeadline.recap();
+        long start = StrictMode.start();
         try {
             logger.info("🔄 Refreshing the page");
             page.reload();
+            PerformanceRecorder.capture(page);
         } catch (Exception e) {
             logger.error("❌ Failed to refresh the page: {}", e.getMessage(), e);
+            StrictMode.fail("refresh", page.url(), start, e);
         }
     }
 
@@ -45,11 +55,15 @@ public class NavigationHelper {
      * Goes back in browser history.
      */
     public void goBack() {
+        ScenarioDeadline.recap();
+        long start = StrictMode.start();
         try {
             logger.info("⬅️ Going back in browser history");
             page.goBack();
+            PerformanceRecorder.capture(page);
         } catch (Exception e) {
             logger.error("❌ Failed to go back in history: {}", e.getMessage(), e);
+            StrictMode.fail("goBack", page.url(), start, e);
         }
     }
 
@@ -57,11 +71,15 @@ public class NavigationHelper {
      * Goes forward in browser history.
      */
     public void goForward() {
+        ScenarioDeadline.recap();
+        long start = StrictMode.start();
         try {
             logger.info("➡️ Going forward in browser history");
             page.goForward();
+            PerformanceRecorder.capture(page);
         } catch (Exception e) {
             logger.error("❌ Failed to go forward in history: {}", e.getMessage(), e);
+            StrictMode.fail("goForward", page.url(), start, e);
         }
     }
 
@@ -71,12 +89,15 @@ public class NavigationHelper {
      * @return The current page URL.
      */
     public String getCurrentUrl() {
+        ScenarioDeadline.recap();
+        long start = StrictMode.start();
         try {
             String currentUrl = page.url();
             logger.info("🔗 Current URL: {}", currentUrl);
             return currentUrl;
         } catch (Exception e) {
             logger.error("❌ Failed to get current URL: {}", e.getMessage(), e);
+            StrictMode.fail("getCurrentUrl", page.url(), start, e);
             return "";
         }
     }
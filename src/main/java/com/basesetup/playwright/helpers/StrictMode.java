@@ -0,0 +1,50 @@
+package com.basesetup.playwright.helpers;
+
+import com.basesetup.playwright.utils.config.PropertyFileReader;
+import com.basesetup.playwright.utils.managers.ScenarioDeadline;
+
+/**
+ * Fail-fast switch for the helpers. By default a failed action is logged and the helper returns a
+ * fallback value, so one broken step makes every following step wait out its own timeout. With
+ * strictActions=true the first failure throws {@link ActionFailedException} and the rest of the
+ * scenario is skipped.
+ */
+public class StrictMode {
+    private static final boolean enabled = PropertyFileReader.getBooleanProperty("strictActions", false);
+
+    /**
+     * @return true when enabled with strictActions=true.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return A start time for {@link #fail(String, Object, long, Exception)}.
+     */
+    public static long start() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Rethrows a failed action in strict mode; does nothing otherwise. An exhausted scenario
+     * budget is always rethrown, since the scenario has to stop either way.
+     *
+     * @param action     What was attempted, e.g. "click".
+     * @param target     Locator, selector or URL the action was applied to.
+     * @param startNanos Value of {@link #start()} taken before the action.
+     * @param cause      The failure.
+     */
+    public static void fail(String action, Object target, long startNanos, Exception cause) {
+        if (cause instanceof ScenarioDeadline.DeadlineExceededException deadlineExceeded) {
+            throw deadlineExceeded;
+        }
+        if (!enabled) {
+            return;
+        }
+        if (cause instanceof ActionFailedException actionFailed) {
+            throw actionFailed;
+        }
+        throw new ActionFailedException(action, target, (System.nanoTime() - startNanos) / 1_000_000, cause);
+    }
+}
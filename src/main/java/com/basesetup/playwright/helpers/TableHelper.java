@@ -1,5 +1,6 @@
 package com.basesetup.playwright.helpers;
 
+import com.basesetup.playwright.utils.scripts.InPageHelpers;
 import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
 import org.slf4j.Logger;
@@ -7,7 +8,6 @@ import org.slf4j.LoggerFactory;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * Helper class for interacting with HTML tables using Playwright.
@@ -27,12 +27,10 @@ public class TableHelper {
      * @param tableLocator Table locator (CSS, XPath, etc.).
      * @return List of rows, where each row is a list of cell texts.
      */
+    @SuppressWarnings("unchecked")
     public List<List<String>> getTableData(Locator tableLocator) {
         try {
-            List<Locator> rows = tableLocator.locator("tr").all();
-            return rows.stream()
-                    .map(row -> row.locator("td,th").allInnerTexts())
-                    .collect(Collectors.toList());
+            return (List<List<String>>) InPageHelpers.call(tableLocator, "tableData");
         } catch (Exception e) {
             logger.error("Failed to retrieve table data: {}", e.getMessage());
             return List.of();
@@ -49,11 +47,7 @@ public class TableHelper {
      */
     public String getCellText(Locator tableLocator, int rowIndex, int colIndex) {
         try {
-            List<Locator> rows = tableLocator.locator("tr").all();
-            if (rowIndex >= rows.size()) return "";
-
-            List<Locator> cells = rows.get(rowIndex).locator("td,th").all();
-            return (colIndex < cells.size()) ? cells.get(colIndex).innerText() : "";
+            return (String) InPageHelpers.call(tableLocator, "cellText", List.of(rowIndex, colIndex));
         } catch (Exception e) {
             logger.error("Error getting cell text: {}", e.getMessage());
             return "";
@@ -92,13 +86,7 @@ public class TableHelper {
      */
     public int findRowByCellText(Locator tableLocator, int colIndex, String searchText) {
         try {
-            List<Locator> rows = tableLocator.locator("tr").all();
-            for (int i = 0; i < rows.size(); i++) {
-                List<Locator> cells = rows.get(i).locator("td,th").all();
-                if (colIndex < cells.size() && cells.get(colIndex).innerText().equals(searchText)) {
-                    return i;
-                }
-            }
+            return ((Number) InPageHelpers.call(tableLocator, "findRow", List.of(colIndex, searchText, false))).intValue();
         } catch (Exception e) {
             logger.error("Error finding row by text: {}", e.getMessage());
         }
@@ -113,14 +101,10 @@ public class TableHelper {
      */
     public void clickIconByFirstColumnText(Locator tableLocator, String searchText) {
         try {
-            List<Locator> rows = tableLocator.locator("tr").all();
-            for (Locator row : rows) {
-                List<Locator> cells = row.locator("td,th").all();
-                if (!cells.isEmpty() && cells.get(0).innerText().trim().equals(searchText)) {
-                    cells.get(cells.size() - 1).click();
-                    logger.info("Clicked on icon in last column for row with text: {}", searchText);
-                    return;
-                }
+            int rowIndex = ((Number) InPageHelpers.call(tableLocator, "findRow", List.of(0, searchText, true))).intValue();
+            if (rowIndex >= 0) {
+                tableLocator.locator("tr").nth(rowIndex).locator("td,th").last().click();
+                logger.info("Clicked on icon in last column for row with text: {}", searchText);
             }
         } catch (Exception e) {
             logger.error("Error clicking icon: {}", e.getMessage());
@@ -134,14 +118,10 @@ public class TableHelper {
      * @param colIndex     Column index (0-based).
      * @return List of column values.
      */
+    @SuppressWarnings("unchecked")
     public List<String> getColumnValues(Locator tableLocator, int colIndex) {
         try {
-            return tableLocator.locator("tr").all().stream()
-                    .map(row -> {
-                        List<Locator> cells = row.locator("td,th").all();
-                        return (colIndex < cells.size()) ? cells.get(colIndex).innerText() : "";
-                    })
-                    .collect(Collectors.toList());
+            return (List<String>) InPageHelpers.call(tableLocator, "columnValues", colIndex);
         } catch (Exception e) {
             logger.error("Error getting column values: {}", e.getMessage());
             return List.of();
@@ -171,8 +151,7 @@ public class TableHelper {
      */
     public int getColumnCount(Locator tableLocator) {
         try {
-            List<Locator> rows = tableLocator.locator("tr").all();
-            return rows.isEmpty() ? 0 : rows.get(0).locator("td,th").count();
+            return ((Number) InPageHelpers.call(tableLocator, "columnCount")).intValue();
         } catch (Exception e) {
             logger.error("Error getting column count: {}", e.getMessage());
             return 0;
@@ -188,8 +167,7 @@ public class TableHelper {
      */
     public boolean doesTableContainText(Locator tableLocator, String searchText) {
         try {
-            return tableLocator.locator("td,th").allInnerTexts().stream()
-                    .anyMatch(text -> text.equals(searchText));
+            return (Boolean) InPageHelpers.call(tableLocator, "tableContains", searchText);
         } catch (Exception e) {
             logger.error("Error checking table for text: {}", e.getMessage());
             return false;
@@ -0,0 +1,150 @@
+package com.basesetup.playwright.helpers;
+
+import com.basesetup.playwright.utils.config.PropertyFileReader;
+import com.basesetup.playwright.utils.managers.PlaywrightManager;
+import com.basesetup.playwright.utils.visual.ImageComparator;
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Helper class for visual regression checks against stored baseline screenshots.
+ * Baselines and outputs are kept per browser type, since browsers render the same page differently.
+ * Screenshots are taken on the scenario thread; comparisons run on a bounded shared pool so the
+ * scenario keeps going, and are collected with {@link #awaitPendingComparisons()}.
+ */
+public class VisualHelper {
+    private final Page page;
+    private static final Logger logger = LoggerFactory.getLogger(VisualHelper.class);
+
+    private static final ForkJoinPool comparisonPool = new ForkJoinPool(
+            PropertyFileReader.getIntProperty("visualPoolSize", Runtime.getRuntime().availableProcessors()));
+    private static final ThreadLocal<List<CompletableFuture<VisualResult>>> pendingThreadLocal = ThreadLocal.withInitial(ArrayList::new);
+
+    private final Path baselineDir = Path.of(PropertyFileReader.getProperty("visualBaselineDir", "src/test/resources/visual-baselines"));
+    private final Path outputDir = Path.of(PropertyFileReader.getProperty("visualOutputDir", "target/visual"));
+    private final double maxDiffRatio = Double.parseDouble(PropertyFileReader.getProperty("visualMaxDiffRatio", "0.001"));
+    private final ImageComparator comparator = new ImageComparator(
+            Double.parseDouble(PropertyFileReader.getProperty("visualThreshold", "0.1")),
+            PropertyFileReader.getBooleanProperty("visualHashPrecheck", false));
+
+    /**
+     * Outcome of one visual check.
+     *
+     * @param name      Baseline name.
+     * @param matched   Whether the screenshot is within tolerance.
+     * @param diffRatio Share of differing pixels.
+     * @param diffImage Path of the written diff image, or null.
+     */
+    public record VisualResult(String name, boolean matched, double diffRatio, Path diffImage) {
+    }
+
+    public VisualHelper(Page page) {
+        this.page = page;
+    }
+
+    /**
+     * Screenshots an element and compares it with its baseline in the background.
+     *
+     * @param locator The element to capture.
+     * @param name    Baseline name, unique per check.
+     * @return Future completed with the comparison result.
+     */
+    public CompletableFuture<VisualResult> compareElement(Locator locator, String name) {
+        logger.info("📸 Capturing element {} for visual check '{}'", locator, name);
+        return submit(name, locator.screenshot());
+    }
+
+    /**
+     * Screenshots the page and compares it with its baseline in the background.
+     *
+     * @param name Baseline name, unique per check.
+     * @return Future completed with the comparison result.
+     */
+    public CompletableFuture<VisualResult> comparePage(String name) {
+        logger.info("📸 Capturing page for visual check '{}'", name);
+        return submit(name, page.screenshot(new Page.ScreenshotOptions().setFullPage(true)));
+    }
+
+    private CompletableFuture<VisualResult> submit(String name, byte[] screenshot) {
+        String browser = PlaywrightManager.getBrowserType(); // Read on the scenario thread, the pool threads have no browser
+        CompletableFuture<VisualResult> future = CompletableFuture.supplyAsync(() -> compare(name, browser, screenshot), comparisonPool);
+        pendingThreadLocal.get().add(future);
+        return future;
+    }
+
+    private VisualResult compare(String name, String browser, byte[] screenshot) {
+        Path baseline = baselineDir.resolve(browser).resolve(name + ".png");
+        Path browserOutputDir = outputDir.resolve(browser);
+        try {
+            if (!Files.exists(baseline) || PropertyFileReader.getBooleanProperty("visualUpdateBaselines", false)) {
+                Files.createDirectories(baseline.toAbsolutePath().getParent());
+                Files.write(baseline, screenshot);
+                logger.warn("🆕 Baseline written for visual check '{}' on {}: {}", name, browser, baseline);
+                return new VisualResult(name, true, 0, null);
+            }
+
+            byte[] expectedBytes = Files.readAllBytes(baseline);
+            if (Arrays.equals(expectedBytes, screenshot)) {
+                return new VisualResult(name, true, 0, null);
+            }
+
+            BufferedImage expected = ImageIO.read(new ByteArrayInputStream(expectedBytes));
+            BufferedImage actual = ImageIO.read(new ByteArrayInputStream(screenshot));
+            ImageComparator.Comparison comparison = comparator.compare(expected, actual);
+            boolean matched = comparison.diffRatio() <= maxDiffRatio;
+
+            Path diffImage = null;
+            if (!matched) {
+                Files.createDirectories(browserOutputDir);
+                Files.write(browserOutputDir.resolve(name + "-actual.png"), screenshot);
+                if (comparison.diffImage() != null) {
+                    diffImage = browserOutputDir.resolve(name + "-diff.png");
+                    ImageIO.write(comparison.diffImage(), "png", diffImage.toFile());
+                }
+            }
+
+            logger.info("{} Visual check '{}' | Hash distance: {} | Pixel diff: {} | Diff ratio: {}",
+                    matched ? "✅" : "❌", name, comparison.hashDistance(), comparison.pixelDiffRun() ? "run" : "skipped",
+                    String.format("%.5f", comparison.diffRatio()));
+            return new VisualResult(name, matched, comparison.diffRatio(), diffImage);
+        } catch (IOException e) {
+            logger.error("❌ Visual check '{}' failed: {}", name, e.getMessage(), e);
+            return new VisualResult(name, false, 1.0, null);
+        }
+    }
+
+    /**
+     * Waits for all comparisons started on the current thread and fails if any did not match.
+     * Called at the end of each scenario.
+     */
+    public static void awaitPendingComparisons() {
+        List<CompletableFuture<VisualResult>> pending = pendingThreadLocal.get();
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<VisualResult> failures = pending.stream()
+                    .map(CompletableFuture::join)
+                    .filter(result -> !result.matched())
+                    .toList();
+            AssertionHelper.assertTrue(failures.isEmpty(), "Visual checks match their baselines " + failures);
+        } finally {
+            pending.clear();
+        }
+    }
+}
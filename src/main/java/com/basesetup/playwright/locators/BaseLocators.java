@@ -1,5 +1,7 @@
 package com.basesetup.playwright.locators;
 
+import com.basesetup.playwright.helpers.StrictMode;
+import com.basesetup.playwright.utils.managers.ScenarioDeadline;
 import com.microsoft.playwright.*;
 import com.microsoft.playwright.options.AriaRole;
 import org.slf4j.Logger;
@@ -20,7 +22,10 @@ public class BaseLocators {
 
     // ✅ Generic retry wrapper
     private Locator retryLocator(String description, Runnable logAction, Supplier<Locator> locatorSupplier) {
+        ScenarioDeadline.recap();
+        long start = StrictMode.start();
         for (int attempt = 1; attempt <= MAX_RETRIES; attempt++) {
+            ScenarioDeadline.check("locate " + description); // Outside the try so an exhausted budget aborts instead of returning null
             try {
                 logAction.run();
                 Locator locator = locatorSupplier.get();
@@ -30,10 +35,11 @@ public class BaseLocators {
                 logger.warn("⚠️ Attempt {}/{} failed for {} | Error: {}", attempt, MAX_RETRIES, description, e.getMessage());
                 if (attempt == MAX_RETRIES) {
                     logger.error("❌ Final failure: Unable to locate {}", description);
+                    StrictMode.fail("locate", description, start, e); // Throws in strict mode
                     return null; // Optional: Return null instead of throwing
                 }
                 try {
-                    Thread.sleep(RETRY_DELAY.toMillis());
+                    Thread.sleep(Math.max(0, Math.min(RETRY_DELAY.toMillis(), ScenarioDeadline.remainingMillis())));
                 } catch (InterruptedException ignored) {}
             }
         }
@@ -102,12 +108,16 @@ public class BaseLocators {
 
     // ✅ Wait for element with proper logging
     public Locator waitForLocator(String selector, int timeoutMs) {
+        timeoutMs = ScenarioDeadline.cap("waitForLocator " + selector, timeoutMs);
+        ScenarioDeadline.recap();
+        long start = StrictMode.start();
         try {
             logger.info("⏳ Waiting for locator: {} (Timeout: {}ms)", selector, timeoutMs);
             page.waitForSelector(selector, new Page.WaitForSelectorOptions().setTimeout(timeoutMs));
             return page.locator(selector);  // Convert ElementHandle to Locator
         } catch (Exception e) {
             logger.error("❌ Locator {} not found within timeout: {}", selector, e.getMessage());
+            StrictMode.fail("waitForLocator", selector, start, e);
             return null;
         }
     }
@@ -0,0 +1,211 @@
+package com.basesetup.playwright.utils.artifacts;
+
+import com.basesetup.playwright.utils.config.PropertyFileReader;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Local store for failure artifacts (screenshots, traces, logs). Artifacts are stored once per SHA-256
+ * of their content under objects/, so identical screenshots from different scenarios take the space
+ * of one. Media that is already compressed (PNG, JPEG, WebM, zip traces) is stored as is with its real
+ * extension, so report links open it directly; text such as logs is gzip-compressed. index.json
+ * records, per hash, the size, content type, last use and the scenarios that produced it. When the
+ * store grows past artifactStoreMaxMb, the least recently used artifacts are evicted.
+ */
+public class ArtifactStore {
+    private static final Logger logger = LoggerFactory.getLogger(ArtifactStore.class);
+    private static final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+
+    private static final Path root = Path.of(PropertyFileReader.getProperty("artifactStoreDir", "target/artifacts"));
+    private static final Path indexFile = root.resolve("index.json");
+    private static final long maxBytes = PropertyFileReader.getIntProperty("artifactStoreMaxMb", 200) * 1024L * 1024L;
+    private static final Map<String, String> COMPRESSED_EXTENSIONS = Map.of(
+            "image/png", ".png", "image/jpeg", ".jpg", "video/webm", ".webm", "application/zip", ".zip");
+    private static final Map<String, String> TEXT_EXTENSIONS = Map.of(
+            "text/plain", ".txt", "text/html", ".html", "application/json", ".json", "application/x-ndjson", ".ndjson");
+
+    private static Map<String, Entry> index;
+    private static long totalBytes;
+
+    /**
+     * Index entry of one stored artifact.
+     */
+    private static final class Entry {
+        private String path;
+        private String contentType;
+        private long size;
+        private long storedSize;
+        private long lastUsed;
+        private List<String> references = new ArrayList<>();
+    }
+
+    /**
+     * A stored artifact.
+     *
+     * @param hash SHA-256 of the uncompressed content.
+     * @param path Location of the stored object.
+     */
+    public record StoredArtifact(String hash, Path path) {
+    }
+
+    /**
+     * Stores an artifact, or records another use of it if the same content is already stored.
+     *
+     * @param content     Raw artifact content.
+     * @param contentType MIME type of the content.
+     * @param reference   Who produced it, e.g. "scenario name / Failure Screenshot".
+     * @return The stored artifact.
+     */
+    public static StoredArtifact store(byte[] content, String contentType, String reference) throws IOException {
+        return store(new ByteArrayInputStream(content), contentType, reference);
+    }
+
+    /**
+     * Stores a file produced elsewhere, e.g. a trace or log. The file is streamed, never loaded into memory.
+     */
+    public static StoredArtifact store(Path file, String contentType, String reference) throws IOException {
+        return store(Files.newInputStream(file), contentType, reference);
+    }
+
+    /**
+     * Copies the content into a temporary object, hashing it on the way, then files it under its hash.
+     * The copy runs outside the lock; only the index update is synchronized.
+     */
+    private static StoredArtifact store(InputStream content, String contentType, String reference) throws IOException {
+        boolean compressed = COMPRESSED_EXTENSIONS.containsKey(contentType);
+        Path objects = root.resolve("objects");
+        Files.createDirectories(objects);
+        Path temp = Files.createTempFile(objects, "artifact", ".tmp");
+        try {
+            MessageDigest digest = sha256();
+            long size;
+            try (InputStream in = new DigestInputStream(content, digest);
+                 OutputStream out = compressed ? Files.newOutputStream(temp)
+                         : new GZIPOutputStream(Files.newOutputStream(temp))) {
+                size = in.transferTo(out); // Deflating PNG or zip again only costs time
+            }
+            return register(temp, HexFormat.of().formatHex(digest.digest()), size, contentType, reference);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Moves the temporary object into place unless the same content is already stored, then updates the index.
+     */
+    private static synchronized StoredArtifact register(Path temp, String hash, long size, String contentType,
+                                                        String reference) throws IOException {
+        Map<String, Entry> entries = getIndex();
+        Entry entry = entries.get(hash);
+
+        if (entry == null || !Files.exists(root.resolve(entry.path))) {
+            boolean compressed = COMPRESSED_EXTENSIONS.containsKey(contentType);
+            String extension = compressed ? COMPRESSED_EXTENSIONS.get(contentType) : TEXT_EXTENSIONS.getOrDefault(contentType, ".bin") + ".gz";
+            String relative = "objects/" + hash.substring(0, 2) + "/" + hash.substring(2) + extension;
+            Path object = root.resolve(relative);
+            Files.createDirectories(object.getParent());
+            Files.move(temp, object, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            if (entry != null) {
+                totalBytes -= entry.storedSize;
+            }
+            entry = new Entry();
+            entry.path = relative;
+            entry.contentType = contentType;
+            entry.size = size;
+            entry.storedSize = Files.size(object);
+            entries.put(hash, entry);
+            totalBytes += entry.storedSize;
+            logger.info("🗃️ Artifact stored: {} | {} -> {} bytes", relative, entry.size, entry.storedSize);
+        } else {
+            logger.info("🗃️ Artifact already stored: {}", entry.path);
+        }
+
+        entry.lastUsed = System.currentTimeMillis();
+        if (!entry.references.contains(reference)) {
+            entry.references.add(reference);
+        }
+        evict(hash);
+        writeIndex();
+        return new StoredArtifact(hash, root.resolve(entry.path));
+    }
+
+    /**
+     * Removes least recently used artifacts until the store fits under the size cap.
+     *
+     * @param keep Hash that must not be evicted (the one just stored).
+     */
+    private static void evict(String keep) throws IOException {
+        if (totalBytes <= maxBytes) {
+            return;
+        }
+        List<Map.Entry<String, Entry>> byAge = new ArrayList<>(index.entrySet());
+        byAge.sort(Comparator.comparingLong(candidate -> candidate.getValue().lastUsed));
+        for (Map.Entry<String, Entry> candidate : byAge) {
+            if (totalBytes <= maxBytes) {
+                break;
+            }
+            if (candidate.getKey().equals(keep)) {
+                continue;
+            }
+            Files.deleteIfExists(root.resolve(candidate.getValue().path));
+            index.remove(candidate.getKey());
+            totalBytes -= candidate.getValue().storedSize;
+            logger.info("🧹 Artifact evicted: {}", candidate.getValue().path);
+        }
+    }
+
+    /**
+     * Loads the index of a previous run on first use, so the cap and de-duplication span runs.
+     */
+    private static Map<String, Entry> getIndex() throws IOException {
+        if (index == null) {
+            index = new LinkedHashMap<>();
+            if (Files.exists(indexFile)) {
+                Map<String, Entry> stored = gson.fromJson(Files.readString(indexFile), new TypeToken<LinkedHashMap<String, Entry>>() {
+                }.getType());
+                if (stored != null) {
+                    index.putAll(stored);
+                }
+            }
+            totalBytes = index.values().stream().mapToLong(entry -> entry.storedSize).sum();
+        }
+        return index;
+    }
+
+    private static void writeIndex() throws IOException {
+        Files.createDirectories(root);
+        Path temp = Files.createTempFile(root, "index", ".tmp");
+        Files.writeString(temp, gson.toJson(index));
+        Files.move(temp, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -37,6 +37,14 @@ public class PropertyFileReader {
         }
     }
 
+    /**
+     * Looks up a property, letting a JVM system property (e.g. -Dheadless=false) override the file value.
+     */
+    private static String lookup(String key) {
+        String override = System.getProperty(key);
+        return override != null ? override : properties.getProperty(key);
+    }
+
     /**
      * Retrieves a string property from the configuration file.
      *
@@ -45,7 +53,8 @@ public class PropertyFileReader {
      * @return The property value or the default value.
      */
     public static String getProperty(String key, String defaultValue) {
-        return properties.getProperty(key, defaultValue);
+        String value = lookup(key);
+        return value != null ? value : defaultValue;
     }
 
     /**
@@ -55,7 +64,7 @@ public class PropertyFileReader {
      * @return The property value or null if not found.
      */
     public static String getProperty(String key) {
-        return properties.getProperty(key);
+        return lookup(key);
     }
 
     /**
@@ -66,7 +75,8 @@ public class PropertyFileReader {
      * @return The boolean property value.
      */
     public static boolean getBooleanProperty(String key, boolean defaultValue) {
-        return Boolean.parseBoolean(properties.getProperty(key, String.valueOf(defaultValue)));
+        String value = lookup(key);
+        return value != null ? Boolean.parseBoolean(value) : defaultValue;
     }
 
     /**
@@ -77,7 +87,7 @@ public class PropertyFileReader {
      * @return The integer property value or the default value.
      */
     public static int getIntProperty(String key, int defaultValue) {
-        String value = properties.getProperty(key);
+        String value = lookup(key);
         if (value != null) {
             try {
                 return Integer.parseInt(value);
@@ -0,0 +1,257 @@
+package com.basesetup.playwright.utils.data;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Streaming reader for data-driven runs. Records are read lazily from a CSV (with header row) or
+ * JSONL file, one record at a time, so the dataset never has to fit in memory. CSV fields in double
+ * quotes may span lines. A feed can be sharded so each of N workers only sees every Nth record.
+ * Reads are synchronized so several threads can pull from the same feed.
+ */
+public class DataFeed implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(DataFeed.class);
+    private static final ThreadLocal<DataRecord> currentRecordThreadLocal = new ThreadLocal<>();
+    private static final ThreadLocal<Map<String, DataRecord>> recordsByLocationThreadLocal = new ThreadLocal<>();
+
+    private final Path file;
+    private final BufferedReader reader;
+    private final boolean csv;
+    private final int shardIndex;
+    private final int shardCount;
+    private List<String> header;
+    private long recordIndex = -1;
+
+    /**
+     * One record of the feed.
+     *
+     * @param index  Zero-based record index within the whole file (not the shard).
+     * @param fields Field values by column name.
+     */
+    public record DataRecord(long index, Map<String, String> fields) {
+        public String get(String field) {
+            String value = fields.get(field);
+            if (value == null) {
+                throw new IllegalArgumentException("Data record " + index + " has no field: " + field);
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Opens a feed. The format is chosen by extension: .csv or .jsonl/.ndjson.
+     *
+     * @param file       The data file.
+     * @param shardIndex Zero-based shard handled by this worker.
+     * @param shardCount Total number of shards.
+     */
+    public DataFeed(Path file, int shardIndex, int shardCount) throws IOException {
+        if (shardCount < 1 || shardIndex < 0 || shardIndex >= shardCount) {
+            throw new IllegalArgumentException("Invalid shard " + shardIndex + "/" + shardCount);
+        }
+        String name = file.getFileName().toString().toLowerCase();
+        this.csv = name.endsWith(".csv");
+        if (!csv && !name.endsWith(".jsonl") && !name.endsWith(".ndjson")) {
+            throw new IllegalArgumentException("Unsupported data feed format: " + file);
+        }
+
+        this.file = file;
+        this.reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+        this.shardIndex = shardIndex;
+        this.shardCount = shardCount;
+        if (csv) {
+            String headerLine = readRecord();
+            this.header = headerLine == null ? List.of() : parseCsvLine(headerLine);
+        }
+        logger.info("📂 Data feed opened: {} | Shard {}/{}", file, shardIndex + 1, shardCount);
+    }
+
+    /**
+     * Reads the next record of this shard.
+     *
+     * @return The record, or empty when the feed is exhausted.
+     */
+    public synchronized Optional<DataRecord> next() {
+        try {
+            String line;
+            while ((line = readRecord()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                recordIndex++;
+                if (recordIndex % shardCount != shardIndex) {
+                    continue;
+                }
+                return Optional.of(new DataRecord(recordIndex, csv ? toCsvRecord(line) : toJsonRecord(line)));
+            }
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error reading data feed: " + file, e);
+        }
+    }
+
+    /**
+     * Reads one record's text. For CSV, lines are joined while a quoted field is still open.
+     */
+    private String readRecord() throws IOException {
+        String line = reader.readLine();
+        if (line == null || !csv) {
+            return line;
+        }
+
+        boolean quoted = hasOddQuotes(line);
+        if (!quoted) {
+            return line;
+        }
+        StringBuilder record = new StringBuilder(line);
+        while (quoted && (line = reader.readLine()) != null) {
+            record.append('\n').append(line);
+            quoted ^= hasOddQuotes(line); // An escaped quote ("") toggles twice
+        }
+        return record.toString();
+    }
+
+    private static boolean hasOddQuotes(String line) {
+        boolean odd = false;
+        for (int i = 0; i < line.length(); i++) {
+            if (line.charAt(i) == '"') {
+                odd = !odd;
+            }
+        }
+        return odd;
+    }
+
+    private Map<String, String> toCsvRecord(String line) {
+        List<String> values = parseCsvLine(line);
+        Map<String, String> fields = new LinkedHashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            fields.put(header.get(i), i < values.size() ? values.get(i) : "");
+        }
+        return fields;
+    }
+
+    private static Map<String, String> toJsonRecord(String line) {
+        JsonObject json = JsonParser.parseString(line).getAsJsonObject();
+        Map<String, String> fields = new LinkedHashMap<>();
+        for (Map.Entry<String, JsonElement> entry : json.entrySet()) {
+            JsonElement value = entry.getValue();
+            fields.put(entry.getKey(), value.isJsonPrimitive() ? value.getAsString() : value.toString());
+        }
+        return fields;
+    }
+
+    /**
+     * Splits one CSV record, honouring double-quoted fields (which may contain line breaks) and "" escapes.
+     */
+    private static List<String> parseCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        values.add(value.toString());
+        return values;
+    }
+
+    /**
+     * Binds the record that scenarios running on the current thread should use.
+     */
+    public static void setCurrentRecord(DataRecord record) {
+        if (record == null) {
+            currentRecordThreadLocal.remove();
+        } else {
+            currentRecordThreadLocal.set(record);
+        }
+    }
+
+    /**
+     * Binds the records of a generated batch by scenario location, see {@link #location(Path, int)}.
+     * Each scenario then picks its record with {@link #selectRecord(Path, int)}.
+     */
+    public static void bindRecords(Map<String, DataRecord> recordsByLocation) {
+        if (recordsByLocation == null) {
+            recordsByLocationThreadLocal.remove();
+        } else {
+            recordsByLocationThreadLocal.set(recordsByLocation);
+        }
+    }
+
+    /**
+     * Binds the record of the scenario at the given location, if a batch bound one.
+     *
+     * @param file Feature file of the scenario.
+     * @param line Line of the scenario (the examples row for outlines).
+     * @return The record, or null when no batch is bound or it has no record for the location.
+     */
+    public static DataRecord selectRecord(Path file, int line) {
+        DataRecord record = recordAt(file, line);
+        if (record != null) {
+            currentRecordThreadLocal.set(record);
+        }
+        return record;
+    }
+
+    /**
+     * @return The record of the bound batch for a scenario location, or null.
+     */
+    public static DataRecord recordAt(Path file, int line) {
+        Map<String, DataRecord> records = recordsByLocationThreadLocal.get();
+        return records == null ? null : records.get(location(file, line));
+    }
+
+    /**
+     * @return The key that identifies a scenario location in a bound batch.
+     */
+    public static String location(Path file, int line) {
+        return file.toAbsolutePath().normalize() + ":" + line;
+    }
+
+    /**
+     * @return The record bound to the current thread.
+     */
+    public static DataRecord getCurrentRecord() {
+        DataRecord record = currentRecordThreadLocal.get();
+        if (record == null) {
+            throw new IllegalStateException("No data feed record is bound to this thread. Run @datafeed scenarios with DataFeedRunner.");
+        }
+        return record;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,247 @@
+package com.basesetup.playwright.utils.managers;
+
+import com.basesetup.playwright.utils.config.PropertyFileReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits how many scenarios run at once, adjusting the limit from the CPU and memory used by the
+ * browser processes. Every sampling interval the driver and browser processes started by this JVM
+ * are read from /proc. While they stay under the CPU and memory thresholds and scenarios are waiting,
+ * the limit grows by one (additive increase); once a threshold is crossed it is halved
+ * (multiplicative decrease). Scenarios already running are not stopped, so after a decrease the
+ * limit is not cut again until running scenarios have drained down to it. On systems without /proc
+ * the limit stays at its initial value.
+ */
+public class AdaptiveConcurrencyController {
+    private static final Logger logger = LoggerFactory.getLogger(AdaptiveConcurrencyController.class);
+    private static final Path PROC = Path.of("/proc");
+    private static final long CLOCK_TICKS_PER_SECOND = clockTicksPerSecond();
+    private static final int CPUS = Runtime.getRuntime().availableProcessors();
+
+    private static final ThreadLocal<Boolean> holdsSlot = ThreadLocal.withInitial(() -> false);
+
+    private static final int minLimit = Math.max(1, PropertyFileReader.getIntProperty("adaptiveMinConcurrency", 1));
+    private static final int maxLimit = Math.max(minLimit, PropertyFileReader.getIntProperty("adaptiveMaxConcurrency", CPUS));
+    private static final double cpuHigh = Double.parseDouble(PropertyFileReader.getProperty("adaptiveCpuHigh", "0.85"));
+    private static final double memoryLow = Double.parseDouble(PropertyFileReader.getProperty("adaptiveMemoryLow", "0.15"));
+    private static final Path reportFile = Path.of(PropertyFileReader.getProperty("adaptiveReportFile", "target/performance/concurrency.csv"));
+
+    private static int limit = Math.min(maxLimit, Math.max(minLimit, PropertyFileReader.getIntProperty("adaptiveInitialConcurrency", Math.max(1, CPUS / 2))));
+    private static int running;
+    private static int waiting;
+
+    private static ScheduledExecutorService sampler;
+    private static BufferedWriter report;
+    private static long lastTicks = -1;
+    private static long lastSampleNanos;
+
+    /**
+     * Resource usage of the browser processes at one point in time.
+     *
+     * @param processes        Number of descendant processes.
+     * @param cpuTicks         Total user+system CPU ticks consumed so far.
+     * @param rssKb            Total resident set size.
+     * @param memoryAvailable  Share of system memory still available.
+     */
+    private record Sample(int processes, long cpuTicks, long rssKb, double memoryAvailable) {
+    }
+
+    /**
+     * @return true when enabled with adaptiveConcurrency=true.
+     */
+    public static boolean isEnabled() {
+        return PropertyFileReader.getBooleanProperty("adaptiveConcurrency", false);
+    }
+
+    /**
+     * Blocks until the current thread may start a scenario. Starts the sampler on first use.
+     */
+    public static void acquire() {
+        if (holdsSlot.get()) {
+            return;
+        }
+        synchronized (AdaptiveConcurrencyController.class) {
+            startSampler();
+            waiting++;
+            try {
+                while (running >= limit) {
+                    AdaptiveConcurrencyController.class.wait();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for a concurrency slot", e);
+            } finally {
+                waiting--;
+            }
+            running++;
+        }
+        holdsSlot.set(true);
+    }
+
+    /**
+     * Frees the slot held by the current thread, if any.
+     */
+    public static void release() {
+        if (!holdsSlot.get()) {
+            return;
+        }
+        holdsSlot.set(false);
+        synchronized (AdaptiveConcurrencyController.class) {
+            running--;
+            AdaptiveConcurrencyController.class.notifyAll();
+        }
+    }
+
+    private static void startSampler() {
+        if (sampler != null) {
+            return;
+        }
+        if (!Files.isDirectory(PROC)) {
+            logger.warn("⚠️ /proc is not available | Concurrency fixed at {}", limit);
+            sampler = Executors.newSingleThreadScheduledExecutor();
+            sampler.shutdown();
+            return;
+        }
+
+        try {
+            Files.createDirectories(reportFile.toAbsolutePath().getParent());
+            report = Files.newBufferedWriter(reportFile);
+            report.write("timestamp,processes,cpu,rssMb,memoryAvailable,running,waiting,limit,decision");
+            report.newLine();
+        } catch (IOException e) {
+            logger.error("❌ Failed to open concurrency report {}: {}", reportFile, e.getMessage());
+        }
+
+        long intervalMs = PropertyFileReader.getIntProperty("adaptiveSampleMs", 2000);
+        sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "concurrency-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sampler.scheduleAtFixedRate(AdaptiveConcurrencyController::adjust, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        logger.info("🎛️ Adaptive concurrency | Initial: {} | Range: {}-{} | CPU high: {} | Memory low: {}",
+                limit, minLimit, maxLimit, cpuHigh, memoryLow);
+    }
+
+    /**
+     * Takes a sample and applies one AIMD step.
+     */
+    private static void adjust() {
+        try {
+            Sample sample = sample();
+            long now = System.nanoTime();
+            if (lastTicks < 0) {
+                lastTicks = sample.cpuTicks();
+                lastSampleNanos = now;
+                return;
+            }
+            double elapsedSeconds = (now - lastSampleNanos) / 1e9;
+            // Ticks can drop when a browser exits; treat that interval as idle
+            double cpu = Math.max(0, sample.cpuTicks() - lastTicks) / (elapsedSeconds * CLOCK_TICKS_PER_SECOND * CPUS);
+            lastTicks = sample.cpuTicks();
+            lastSampleNanos = now;
+
+            synchronized (AdaptiveConcurrencyController.class) {
+                int previous = limit;
+                String decision = "hold";
+                if (cpu > cpuHigh || sample.memoryAvailable() < memoryLow) {
+                    if (running > limit) {
+                        decision = "draining"; // The last decrease has not taken effect yet
+                    } else {
+                        limit = Math.max(minLimit, limit / 2);
+                        decision = limit < previous ? "decrease" : "hold";
+                    }
+                } else if (waiting > 0 && running >= limit && limit < maxLimit) {
+                    limit++;
+                    decision = "increase";
+                    AdaptiveConcurrencyController.class.notifyAll();
+                }
+
+                if (limit != previous) {
+                    logger.info("🎛️ Concurrency {} -> {} | CPU: {}% | Browser RSS: {} MB | Memory available: {}% | Running: {} | Waiting: {}",
+                            previous, limit, Math.round(cpu * 100), sample.rssKb() / 1024,
+                            Math.round(sample.memoryAvailable() * 100), running, waiting);
+                }
+                writeRow(sample, cpu, decision);
+            }
+        } catch (Exception e) {
+            logger.warn("⚠️ Concurrency sampling failed: {}", e.getMessage());
+        }
+    }
+
+    private static Sample sample() throws IOException {
+        List<ProcessHandle> processes = ProcessHandle.current().descendants().toList();
+        long ticks = 0;
+        long rssKb = 0;
+        int alive = 0;
+        for (ProcessHandle process : processes) {
+            Path dir = PROC.resolve(Long.toString(process.pid()));
+            try {
+                // Fields after the parenthesised command name; utime and stime are fields 14 and 15
+                String stat = Files.readString(dir.resolve("stat"));
+                String[] fields = stat.substring(stat.lastIndexOf(')') + 2).split(" ");
+                ticks += Long.parseLong(fields[11]) + Long.parseLong(fields[12]);
+                rssKb += readKb(dir.resolve("status"), "VmRSS:");
+                alive++;
+            } catch (IOException | RuntimeException e) {
+                // The process exited between listing and reading
+            }
+        }
+        long total = readKb(PROC.resolve("meminfo"), "MemTotal:");
+        long available = readKb(PROC.resolve("meminfo"), "MemAvailable:");
+        return new Sample(alive, ticks, rssKb, total > 0 ? (double) available / total : 1.0);
+    }
+
+    /**
+     * Reads USER_HZ, the unit of the CPU times in /proc/&lt;pid&gt;/stat, falling back to the usual 100.
+     */
+    private static long clockTicksPerSecond() {
+        try {
+            Process process = new ProcessBuilder("getconf", "CLK_TCK").redirectErrorStream(true).start();
+            String output = new String(process.getInputStream().readAllBytes()).trim();
+            if (process.waitFor() == 0 && output.matches("\\d+")) {
+                return Long.parseLong(output);
+            }
+        } catch (IOException e) {
+            // getconf is missing, use the default
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return 100;
+    }
+
+    private static long readKb(Path file, String key) throws IOException {
+        for (String line : Files.readAllLines(file)) {
+            if (line.startsWith(key)) {
+                return Long.parseLong(line.substring(key.length()).trim().split("\\s+")[0]);
+            }
+        }
+        return 0;
+    }
+
+    private static void writeRow(Sample sample, double cpu, String decision) {
+        if (report == null) {
+            return;
+        }
+        try {
+            report.write(String.join(",", Long.toString(System.currentTimeMillis()), Integer.toString(sample.processes()),
+                    String.format(Locale.ROOT, "%.3f", cpu), Long.toString(sample.rssKb() / 1024), String.format(Locale.ROOT, "%.3f", sample.memoryAvailable()),
+                    Integer.toString(running), Integer.toString(waiting), Integer.toString(limit), decision));
+            report.newLine();
+            report.flush();
+        } catch (IOException e) {
+            logger.warn("⚠️ Failed to write concurrency report: {}", e.getMessage());
+        }
+    }
+}
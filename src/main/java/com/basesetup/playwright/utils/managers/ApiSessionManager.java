@@ -0,0 +1,69 @@
+package com.basesetup.playwright.utils.managers;
+
+import com.basesetup.playwright.utils.config.PropertyFileReader;
+import com.microsoft.playwright.APIResponse;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.options.FormData;
+import com.microsoft.playwright.options.RequestOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.util.Map;
+
+/**
+ * Manages API-driven authentication that shares its session cookies with the browser context.
+ * The login is posted through the BrowserContext's own APIRequestContext, which shares the context's
+ * cookie jar, so the session cookies land in the browser directly. It lives and dies with the
+ * scenario's context, so nothing carries over to a later scenario or user on the same thread.
+ */
+public class ApiSessionManager {
+    private static final Logger logger = LoggerFactory.getLogger(ApiSessionManager.class);
+
+    /**
+     * Authenticates through the login endpoint with the current thread's BrowserContext,
+     * which keeps the resulting session cookies. Pages that have already navigated
+     * are reloaded so they pick up the session.
+     *
+     * @param username The username to log in with.
+     * @param password The password to log in with.
+     */
+    public static void loginViaApi(String username, String password) {
+        BrowserContext context = PlaywrightManager.getContext();
+        if (context == null) {
+            context = PlaywrightManager.createContext();
+        }
+
+        String apiBaseUrl = PropertyFileReader.getProperty("apiBaseUrl", PropertyFileReader.getProperty("baseUrl"));
+        String loginPath = PropertyFileReader.getProperty("apiLoginPath", "api/login");
+        String usernameField = PropertyFileReader.getProperty("apiLoginUsernameField", "username");
+        String passwordField = PropertyFileReader.getProperty("apiLoginPasswordField", "password");
+        boolean jsonBody = "json".equalsIgnoreCase(PropertyFileReader.getProperty("apiLoginContentType", "form"));
+
+        RequestOptions options = (jsonBody
+                ? RequestOptions.create().setData(Map.of(usernameField, username, passwordField, password))
+                : RequestOptions.create().setForm(FormData.create().set(usernameField, username).set(passwordField, password)))
+                .setTimeout(PropertyFileReader.getIntProperty("defaultTimeout", 30000));
+
+        String loginUrl = URI.create(apiBaseUrl).resolve(loginPath).toString(); // Resolved like a Playwright baseURL
+        logger.info("🔑 Logging in via API as '{}' | Endpoint: {}", username, loginUrl);
+        APIResponse response = context.request().post(loginUrl, options);
+        try {
+            if (!response.ok()) {
+                logger.error("❌ API login failed for '{}' | Status: {} {}", username, response.status(), response.statusText());
+                throw new RuntimeException("API login failed with status " + response.status() + " for user: " + username);
+            }
+        } finally {
+            response.dispose();
+        }
+        logger.info("🍪 Session cookies stored in BrowserContext for thread: {}", Thread.currentThread().getId());
+
+        for (Page page : context.pages()) {
+            if (!"about:blank".equals(page.url())) {
+                page.reload();
+                logger.info("🔄 Reloaded {} with the API session", page.url());
+            }
+        }
+    }
+}
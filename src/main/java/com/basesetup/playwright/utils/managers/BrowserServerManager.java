@@ -0,0 +1,177 @@
+package com.basesetup.playwright.utils.managers;
+
+import com.basesetup.playwright.utils.config.PropertyFileReader;
+import com.google.gson.Gson;
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.Playwright;
+import com.microsoft.playwright.impl.driver.Driver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Persistent browser server shared by later runs. Started once with {@link #main(String[])}, it
+ * launches a browser server through the Playwright driver and writes its WebSocket endpoint to
+ * browserServerEndpointFile. With browserServer=true, {@link PlaywrightManager} connects to that
+ * endpoint instead of launching a browser, and falls back to a local launch when the server is gone.
+ * <p>
+ * Playwright for Java has no public API to launch a browser server, so {@link #main(String[])} uses the
+ * internal {@code com.microsoft.playwright.impl.driver.Driver} and the driver's undocumented
+ * {@code launch-server} command. Both ship in the playwright artifact, so the server always matches the
+ * client version ({@link BrowserType#connect} rejects a different minor version, which rules out the
+ * separately versioned npx CLI). They are not covered by semver: re-check this class when upgrading
+ * the playwright dependency.
+ *
+ * <pre>
+ * mvn -Pbrowser-server test-compile exec:java     # keep running in a separate terminal
+ * mvn test -DbrowserServer=true
+ * </pre>
+ */
+public class BrowserServerManager {
+    private static final Logger logger = LoggerFactory.getLogger(BrowserServerManager.class);
+    private static final int HEALTH_CHECK_TIMEOUT_MS = 500;
+
+    /**
+     * Contents of the endpoint file.
+     *
+     * @param endpoint WebSocket endpoint of the server.
+     * @param browser  Browser type served.
+     * @param headless Whether the browser runs headless.
+     * @param pid      Process id of the server.
+     */
+    private record ServerInfo(String endpoint, String browser, boolean headless, long pid) {
+    }
+
+    /**
+     * @return true when enabled with browserServer=true.
+     */
+    public static boolean isEnabled() {
+        return PropertyFileReader.getBooleanProperty("browserServer", false);
+    }
+
+    private static Path getEndpointFile(String browserType) {
+        String defaultFile = Path.of(System.getProperty("java.io.tmpdir"), "playwright-browser-server-" + browserType + ".json").toString();
+        return Path.of(PropertyFileReader.getProperty("browserServerEndpointFile", defaultFile));
+    }
+
+    /**
+     * Connects to the running browser server, if there is a healthy one matching the requested browser.
+     *
+     * @return The connected browser, or null when the caller should launch one itself.
+     */
+    public static Browser connect(Playwright playwright, String browserType, boolean headless) {
+        Path endpointFile = getEndpointFile(browserType);
+        if (!Files.exists(endpointFile)) {
+            logger.info("🔌 No browser server endpoint at {} | Launching locally", endpointFile);
+            return null;
+        }
+
+        try {
+            ServerInfo server = new Gson().fromJson(Files.readString(endpointFile), ServerInfo.class);
+            if (!server.browser().equalsIgnoreCase(browserType) || server.headless() != headless) {
+                logger.warn("⚠️ Browser server runs {} (headless: {}) | Launching {} locally", server.browser(), server.headless(), browserType);
+                return null;
+            }
+            if (!isHealthy(server)) {
+                logger.warn("⚠️ Browser server at {} is not responding | Launching locally", server.endpoint());
+                Files.deleteIfExists(endpointFile);
+                return null;
+            }
+
+            long start = System.currentTimeMillis();
+            Browser browser = browserType(playwright, browserType).connect(server.endpoint(),
+                    new BrowserType.ConnectOptions().setTimeout(PropertyFileReader.getIntProperty("browserServerConnectTimeout", 5000)));
+            logger.info("🔌 Connected to browser server {} in {} ms", server.endpoint(), System.currentTimeMillis() - start);
+            return browser;
+        } catch (Exception e) {
+            logger.warn("⚠️ Failed to connect to browser server: {} | Launching locally", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Cheap checks before paying for a WebSocket handshake: the process exists and accepts TCP connections.
+     */
+    private static boolean isHealthy(ServerInfo server) {
+        if (ProcessHandle.of(server.pid()).map(ProcessHandle::isAlive).orElse(false)) {
+            URI uri = URI.create(server.endpoint());
+            try (Socket socket = new Socket()) {
+                socket.connect(new InetSocketAddress(uri.getHost(), uri.getPort()), HEALTH_CHECK_TIMEOUT_MS);
+                return true;
+            } catch (IOException e) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private static BrowserType browserType(Playwright playwright, String browserType) {
+        return switch (browserType.toLowerCase()) {
+            case "chromium" -> playwright.chromium();
+            case "firefox" -> playwright.firefox();
+            case "webkit" -> playwright.webkit();
+            default -> throw new IllegalArgumentException("Unsupported browser: " + browserType);
+        };
+    }
+
+    /**
+     * Launches the browser server and keeps it running until this process is stopped.
+     */
+    public static void main(String[] args) throws Exception {
+        String browserType = PropertyFileReader.getProperty("browser", "chromium");
+        boolean headless = PropertyFileReader.getBooleanProperty("headless", true);
+        Path endpointFile = getEndpointFile(browserType);
+
+        Path config = Files.createTempFile("browser-server-", ".json");
+        Map<String, Object> options = Map.of(
+                "headless", headless,
+                "port", PropertyFileReader.getIntProperty("browserServerPort", 0),
+                "args", List.of("--disable-gpu", "--no-sandbox"));
+        Files.writeString(config, new Gson().toJson(options));
+
+        // Internal API, pinned by the playwright dependency version in pom.xml
+        ProcessBuilder builder = Driver.ensureDriverInstalled(Collections.emptyMap(), false).createProcessBuilder();
+        builder.command().addAll(List.of("launch-server", "--browser", browserType.toLowerCase(), "--config", config.toString()));
+        builder.redirectError(ProcessBuilder.Redirect.INHERIT);
+        Process process = builder.start();
+
+        BufferedReader output = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+        String endpoint = output.readLine();
+        if (endpoint == null || !endpoint.startsWith("ws")) {
+            process.destroy();
+            throw new IllegalStateException("Browser server did not report an endpoint: " + endpoint
+                    + " | The driver's launch-server command may have changed with the playwright version");
+        }
+
+        Files.createDirectories(endpointFile.toAbsolutePath().getParent());
+        Files.writeString(endpointFile, new Gson().toJson(new ServerInfo(endpoint, browserType, headless, process.pid())));
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            process.destroy();
+            try {
+                Files.deleteIfExists(endpointFile);
+                Files.deleteIfExists(config);
+            } catch (IOException e) {
+                logger.warn("⚠️ Failed to clean up browser server files: {}", e.getMessage());
+            }
+            logger.info("🛑 Browser server stopped");
+        }));
+
+        logger.info("🛰️ Browser server running | Browser: {} | Headless: {} | Endpoint: {} | Endpoint file: {}",
+                browserType, headless, endpoint, endpointFile);
+        output.lines().forEach(line -> logger.info("🛰️ {}", line));
+        process.waitFor();
+    }
+}
@@ -0,0 +1,159 @@
+package com.basesetup.playwright.utils.managers;
+
+import com.basesetup.playwright.utils.config.PropertyFileReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * Circuit breaker around the system under test, shared by all scenario threads. Consecutive
+ * environment failures (navigation errors, 5xx responses) open the circuit, after which scenarios
+ * are skipped instead of each waiting out its timeouts. Once circuitBreakerOpenSeconds have passed,
+ * one caller probes baseUrl with a plain HTTP request (half-open); success closes the circuit,
+ * failure keeps it open for another period. In mock mode baseUrl is only reachable through the
+ * browser's routes, so instead of the HTTP probe one scenario is let through as a trial and its
+ * navigation decides. A trial that reports no result within circuitBreakerOpenSeconds (e.g. because
+ * its setup failed before navigating) is given up and the next caller becomes the trial.
+ */
+public class EnvironmentCircuitBreaker {
+    private static final Logger logger = LoggerFactory.getLogger(EnvironmentCircuitBreaker.class);
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private static final int threshold = PropertyFileReader.getIntProperty("circuitBreakerThreshold", 3);
+    private static final long openMillis = PropertyFileReader.getIntProperty("circuitBreakerOpenSeconds", 30) * 1000L;
+    private static final HttpClient probeClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+
+    private static State state = State.CLOSED;
+    private static int consecutiveFailures;
+    private static long openedAt;
+    private static long halfOpenedAt;
+    private static String lastFailure;
+
+    /**
+     * @return true unless disabled with circuitBreaker=false.
+     */
+    public static boolean isEnabled() {
+        return PropertyFileReader.getBooleanProperty("circuitBreaker", true);
+    }
+
+    /**
+     * Decides whether a scenario may use the environment. When the open period has elapsed, the
+     * first caller runs the half-open probe; callers arriving during the probe are refused. A
+     * half-open state older than the open period counts as open again, so a lost trial cannot
+     * keep the circuit half-open for the rest of the run.
+     *
+     * @return true when the circuit is closed (or was just closed by a successful probe).
+     */
+    public static boolean allowRequest() {
+        synchronized (EnvironmentCircuitBreaker.class) {
+            if (state == State.CLOSED) {
+                return true;
+            }
+            long now = System.currentTimeMillis();
+            if (state == State.HALF_OPEN) {
+                if (now - halfOpenedAt < openMillis) {
+                    return false;
+                }
+                logger.warn("🔌 Half-open trial reported no result within {} s, starting a new one", openMillis / 1000);
+            } else if (now - openedAt < openMillis) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            halfOpenedAt = now;
+            if (MockServerManager.isEnabled()) {
+                logger.info("🔌 Half-open | Mock mode, letting one scenario through as the probe");
+                return true; // Its recordSuccess or recordFailure closes or re-opens the circuit
+            }
+        }
+
+        boolean healthy = probe();
+        synchronized (EnvironmentCircuitBreaker.class) {
+            if (healthy) {
+                close();
+            } else {
+                open();
+            }
+            return healthy;
+        }
+    }
+
+    /**
+     * Records a successful use of the environment.
+     */
+    public static synchronized void recordSuccess() {
+        if (state != State.CLOSED) {
+            close();
+        }
+        consecutiveFailures = 0;
+    }
+
+    /**
+     * Records an environment failure, opening the circuit once the threshold is reached.
+     *
+     * @param reason Short description of the failure.
+     */
+    public static synchronized void recordFailure(String reason) {
+        lastFailure = reason;
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= threshold)) {
+            open();
+        }
+    }
+
+    public static synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * @return Why the circuit is open, for skip messages.
+     */
+    public static synchronized String describe() {
+        return "Environment circuit " + state + " after " + consecutiveFailures + " consecutive failure(s). Last: " + lastFailure;
+    }
+
+    private static void open() {
+        state = State.OPEN;
+        openedAt = System.currentTimeMillis();
+        logger.error("🔌 Environment circuit OPEN | {} consecutive failure(s) | Last: {} | Next probe in {} s",
+                consecutiveFailures, lastFailure, openMillis / 1000);
+    }
+
+    private static void close() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        logger.info("🔌 Environment circuit CLOSED | Environment is reachable again");
+    }
+
+    /**
+     * Probes baseUrl without a browser. Any response below 500 counts as healthy.
+     */
+    private static boolean probe() {
+        String url = PropertyFileReader.getProperty("circuitBreakerProbeUrl", PropertyFileReader.getProperty("baseUrl", "https://example.com"));
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(10)).GET().build();
+            int status = probeClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            logger.info("🔌 Half-open probe {} | Status: {}", url, status);
+            if (status >= 500) {
+                lastFailure = "Probe returned HTTP " + status;
+                return false;
+            }
+            return true;
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            lastFailure = "Probe failed: " + e.getMessage();
+            logger.warn("🔌 Half-open probe {} failed: {}", url, e.getMessage());
+            return false;
+        }
+    }
+}
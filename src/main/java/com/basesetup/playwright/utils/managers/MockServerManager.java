@@ -0,0 +1,122 @@
+package com.basesetup.playwright.utils.managers;
+
+import com.basesetup.playwright.utils.config.PropertyFileReader;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Route;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Offline mock of the system under test. Requests to baseUrl are fulfilled from a directory of
+ * recorded responses instead of the network. The fixtures are read once into an in-memory cache
+ * that every context shares.
+ */
+public class MockServerManager {
+    private static final Logger logger = LoggerFactory.getLogger(MockServerManager.class);
+
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+            "html", "text/html; charset=utf-8",
+            "css", "text/css; charset=utf-8",
+            "js", "application/javascript; charset=utf-8",
+            "json", "application/json; charset=utf-8",
+            "svg", "image/svg+xml",
+            "png", "image/png",
+            "jpg", "image/jpeg",
+            "ico", "image/x-icon",
+            "woff2", "font/woff2"
+    );
+
+    private record Fixture(byte[] body, String contentType) {
+    }
+
+    private static volatile Map<String, Fixture> fixtures;
+
+    /**
+     * @return true when enabled with mockMode=true.
+     */
+    public static boolean isEnabled() {
+        return PropertyFileReader.getBooleanProperty("mockMode", false);
+    }
+
+    /**
+     * Routes every request under baseUrl to the fixture cache.
+     *
+     * @param context The BrowserContext to route.
+     */
+    public static void install(BrowserContext context) {
+        String baseUrl = PropertyFileReader.getProperty("baseUrl", "https://example.com");
+        String prefix = baseUrl.endsWith("/") ? baseUrl : baseUrl + "/";
+        Map<String, Fixture> cache = getFixtures();
+
+        String basePath = URI.create(prefix).getPath();
+        context.route(url -> url.startsWith(prefix) || url.equals(baseUrl), route -> fulfill(route, basePath, cache));
+        logger.info("🧪 Mock mode: {} fixture(s) routed for {}", cache.size(), prefix);
+    }
+
+    private static void fulfill(Route route, String basePath, Map<String, Fixture> cache) {
+        String url = route.request().url();
+        String path = URI.create(url).getPath();
+        String relative = path.startsWith(basePath) ? path.substring(basePath.length()) : "";
+        if (relative.isEmpty() || relative.endsWith("/")) {
+            relative += "index.html";
+        }
+
+        Fixture fixture = cache.get(relative);
+        if (fixture == null) {
+            logger.warn("⚠️ No fixture for {} | Responding 404", url);
+            route.fulfill(new Route.FulfillOptions().setStatus(404));
+            return;
+        }
+        route.fulfill(new Route.FulfillOptions()
+                .setStatus(200)
+                .setContentType(fixture.contentType())
+                .setBodyBytes(fixture.body()));
+    }
+
+    /**
+     * Loads the fixture directory on first use. Keys are paths relative to the directory, using '/'.
+     */
+    private static Map<String, Fixture> getFixtures() {
+        if (fixtures == null) {
+            synchronized (MockServerManager.class) {
+                if (fixtures == null) {
+                    fixtures = loadFixtures(Path.of(PropertyFileReader.getProperty("mockFixturesDir", "src/test/resources/fixtures/saucedemo")));
+                }
+            }
+        }
+        return fixtures;
+    }
+
+    private static Map<String, Fixture> loadFixtures(Path root) {
+        Map<String, Fixture> cache = new HashMap<>();
+        try (Stream<Path> files = Files.walk(root)) {
+            for (Path file : files.filter(Files::isRegularFile).toList()) {
+                String key = root.relativize(file).toString().replace('\\', '/');
+                cache.put(key, new Fixture(Files.readAllBytes(file), contentType(key)));
+            }
+        } catch (IOException e) {
+            logger.error("❌ Failed to load mock fixtures from {}: {}", root, e.getMessage(), e);
+            throw new RuntimeException("Error reading mock fixtures: " + root, e);
+        }
+        logger.info("📦 Loaded {} mock fixture(s) from {}", cache.size(), root.toAbsolutePath());
+        return Map.copyOf(cache);
+    }
+
+    private static String contentType(String fileName) {
+        String extension = fileName.substring(fileName.lastIndexOf('.') + 1).toLowerCase();
+        String contentType = CONTENT_TYPES.get(extension);
+        if (contentType == null) {
+            contentType = URLConnection.guessContentTypeFromName(fileName);
+        }
+        return contentType != null ? contentType : "application/octet-stream";
+    }
+}
@@ -1,6 +1,10 @@
 package com.basesetup.playwright.utils.managers;
 
 import com.basesetup.playwright.utils.config.PropertyFileReader;
+import com.basesetup.playwright.utils.metrics.NetworkLatencyRecorder;
+import com.basesetup.playwright.utils.metrics.PerformanceRecorder;
+import com.basesetup.playwright.utils.network.InFlightRequestTracker;
+import com.basesetup.playwright.utils.scripts.InPageHelpers;
 import com.microsoft.playwright.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -11,23 +15,28 @@ import java.util.Objects;
 public class PlaywrightManager {
     private static final Logger logger = LoggerFactory.getLogger(PlaywrightManager.class);
 
-    private static Playwright playwright;
-    private static Browser browser;
+    // Playwright objects are not thread-safe, so every worker thread owns its own instance and browser
+    private static final ThreadLocal<Playwright> playwrightThreadLocal = new ThreadLocal<>();
+    private static final ThreadLocal<Browser> browserThreadLocal = new ThreadLocal<>();
     private static final ThreadLocal<BrowserContext> contextThreadLocal = new ThreadLocal<>();
     private static final ThreadLocal<Page> pageThreadLocal = new ThreadLocal<>();
+    private static final ThreadLocal<String> sharedContextGroupThreadLocal = new ThreadLocal<>();
+    private static final ThreadLocal<String> browserTypeThreadLocal = new ThreadLocal<>();
 
     /**
-     * Initializes Playwright and launches the browser.
+     * Initializes Playwright and launches the browser for the current thread.
      */
-    public static synchronized void initBrowser() {
-        if (playwright == null) {
+    public static void initBrowser() {
+        if (playwrightThreadLocal.get() == null) {
             try {
-                playwright = Playwright.create();
-                String browserType = PropertyFileReader.getProperty("browser", "chromium");
+                Playwright playwright = Playwright.create();
+                playwrightThreadLocal.set(playwright);
+                String browserType = getBrowserType();
                 boolean headless = PropertyFileReader.getBooleanProperty("headless", true);
 
-                browser = launchBrowser(browserType, headless);
-                logger.info("🎭 Playwright Initialized | Browser: {} | Headless: {}", browserType, headless);
+                Browser browser = BrowserServerManager.isEnabled() ? BrowserServerManager.connect(playwright, browserType, headless) : null;
+                browserThreadLocal.set(browser != null ? browser : launchBrowser(playwright, browserType, headless));
+                logger.info("🎭 Playwright Initialized | Browser: {} | Headless: {} | Server: {}", browserType, headless, browser != null);
             } catch (Exception e) {
                 logger.error("❌ Failed to initialize Playwright: {}", e.getMessage(), e);
                 throw new RuntimeException("Playwright initialization failed", e);
@@ -35,10 +44,43 @@ public class PlaywrightManager {
         }
     }
 
+    /**
+     * Makes the current thread launch the given browser type instead of the configured one, so
+     * one JVM can run several browsers side by side. Takes effect on the thread's next {@link #initBrowser()}.
+     *
+     * @param browserType chromium, firefox or webkit, or null for the configured browser.
+     */
+    public static void setBrowserType(String browserType) {
+        if (browserType == null) {
+            browserTypeThreadLocal.remove();
+        } else {
+            browserTypeThreadLocal.set(browserType);
+        }
+    }
+
+    /**
+     * @return The browser type the current thread launches: its {@link #setBrowserType(String)}
+     * override, or the configured browser.
+     */
+    public static String getBrowserType() {
+        String browserType = browserTypeThreadLocal.get();
+        return browserType != null ? browserType : PropertyFileReader.getProperty("browser", "chromium");
+    }
+
+    /**
+     * Retrieves the Playwright instance of the current thread, initializing it if needed.
+     */
+    public static Playwright getPlaywright() {
+        if (playwrightThreadLocal.get() == null) {
+            initBrowser();
+        }
+        return playwrightThreadLocal.get();
+    }
+
     /**
      * Launches the specified browser type with given options.
      */
-    private static Browser launchBrowser(String browserType, boolean headless) {
+    private static Browser launchBrowser(Playwright playwright, String browserType, boolean headless) {
         BrowserType.LaunchOptions options = new BrowserType.LaunchOptions()
                 .setHeadless(headless)
                 .setSlowMo(PropertyFileReader.getIntProperty("slowMo", 0))
@@ -52,19 +94,52 @@ public class PlaywrightManager {
         };
     }
 
+    /**
+     * Makes the next {@link #createPage()} on this thread hand out a tab from the group's shared
+     * context instead of creating a context of its own.
+     *
+     * @param group Isolation group, or null for a dedicated context.
+     */
+    public static void setSharedContextGroup(String group) {
+        if (group == null) {
+            sharedContextGroupThreadLocal.remove();
+        } else {
+            sharedContextGroupThreadLocal.set(group);
+        }
+    }
+
     /**
      * Creates and returns a new BrowserContext.
      */
     public static BrowserContext createContext() {
-        if (browser == null) {
+        BrowserContext context = newConfiguredContext();
+        contextThreadLocal.set(context);
+        logger.info("🌐 New BrowserContext created for thread: {}", Thread.currentThread().getId());
+
+        return context;
+    }
+
+    /**
+     * Creates a BrowserContext with the mock, performance and network hooks installed.
+     */
+    private static BrowserContext newConfiguredContext() {
+        if (browserThreadLocal.get() == null) {
             logger.warn("⚠️ Browser not initialized. Initializing now...");
             initBrowser();
         }
 
-        BrowserContext context = browser.newContext();
-        contextThreadLocal.set(context);
-        logger.info("🌐 New BrowserContext created for thread: {}", Thread.currentThread().getId());
-
+        BrowserContext context = browserThreadLocal.get().newContext();
+        InPageHelpers.install(context);
+        if (MockServerManager.isEnabled()) {
+            MockServerManager.install(context);
+        }
+        if (PerformanceRecorder.isEnabled()) {
+            PerformanceRecorder.install(context);
+        }
+        if (NetworkLatencyRecorder.isEnabled()) {
+            NetworkLatencyRecorder.attach(context);
+        }
+        context.onPage(InFlightRequestTracker::attach); // Popups get tracked too
         return context;
     }
 
@@ -72,13 +147,22 @@ public class PlaywrightManager {
      * Creates and returns a new Page.
      */
     public static Page createPage() {
-        BrowserContext context = getContext();
-        if (context == null) {
-            context = createContext();
+        Page page;
+        String sharedGroup = sharedContextGroupThreadLocal.get();
+        if (sharedGroup != null) {
+            page = SharedContextPool.newPage(sharedGroup, PlaywrightManager::newConfiguredContext);
+        } else {
+            BrowserContext context = getContext();
+            if (context == null) {
+                context = createContext();
+            }
+            page = context.newPage();
         }
 
-        Page page = context.newPage();
+        InFlightRequestTracker.attach(page);
+        ThrottleManager.apply(page.context(), page);
         page.setDefaultTimeout(PropertyFileReader.getIntProperty("defaultTimeout", 30000));  // Set default timeout
+        ScenarioDeadline.applyTo(page);
         pageThreadLocal.set(page);
 
         logger.info("📄 New Page created for thread: {}", Thread.currentThread().getId());
@@ -89,7 +173,12 @@ public class PlaywrightManager {
      * Retrieves the current BrowserContext for the thread.
      */
     public static BrowserContext getContext() {
-        return contextThreadLocal.get();
+        BrowserContext context = contextThreadLocal.get();
+        Page page = pageThreadLocal.get();
+        if (context == null && page != null && sharedContextGroupThreadLocal.get() != null) {
+            return page.context();  // Tab of a shared context
+        }
+        return context;
     }
 
     /**
@@ -111,7 +200,11 @@ public class PlaywrightManager {
         try {
             Page page = pageThreadLocal.get();
             if (page != null) {
-                page.close();
+                if (sharedContextGroupThreadLocal.get() != null) {
+                    SharedContextPool.release(page);
+                } else {
+                    page.close();
+                }
                 pageThreadLocal.remove();
                 logger.info("❌ Page closed for thread: {}", Thread.currentThread().getId());
             }
@@ -128,21 +221,25 @@ public class PlaywrightManager {
     }
 
     /**
-     * Closes the browser instance and Playwright.
+     * Closes the browser instance and Playwright of the current thread.
      */
-    public static synchronized void closeBrowser() {
+    public static void closeBrowser() {
         closeContext();  // Ensure thread-local resources are released
+        SharedContextPool.closeAll();
+        sharedContextGroupThreadLocal.remove();
 
         try {
+            Browser browser = browserThreadLocal.get();
             if (browser != null) {
                 browser.close();
+                browserThreadLocal.remove();
                 logger.info("❌ Browser closed");
-                browser = null;
             }
+            Playwright playwright = playwrightThreadLocal.get();
             if (playwright != null) {
                 playwright.close();
+                playwrightThreadLocal.remove();
                 logger.info("❌ Playwright instance closed");
-                playwright = null;
             }
         } catch (Exception e) {
             logger.error("⚠️ Error while closing Playwright: {}", e.getMessage(), e);
@@ -0,0 +1,189 @@
+package com.basesetup.playwright.utils.managers;
+
+import com.basesetup.playwright.utils.config.PropertyFileReader;
+import com.microsoft.playwright.Page;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Per-scenario time budget. Hooks.setup starts it from scenarioBudgetMs or an @budget tag, and every
+ * wait in the helpers and locators is capped at what remains of it, so a hung scenario cannot run
+ * for many minutes. Once the budget is used up, the next capped call throws {@link DeadlineExceededException}.
+ * Without an active budget every method leaves timeouts unchanged.
+ */
+public class ScenarioDeadline {
+    private static final Logger logger = LoggerFactory.getLogger(ScenarioDeadline.class);
+
+    private static final ThreadLocal<Budget> budgetThreadLocal = new ThreadLocal<>();
+    private static final ThreadLocal<Page> pageThreadLocal = new ThreadLocal<>();
+
+    /**
+     * @param budgetMs Total budget in milliseconds.
+     * @param startNanos When the scenario started.
+     */
+    private record Budget(long budgetMs, long startNanos) {
+        private long elapsedMs() {
+            return (System.nanoTime() - startNanos) / 1_000_000;
+        }
+    }
+
+    /**
+     * Thrown when a scenario has used up its budget.
+     */
+    public static class DeadlineExceededException extends RuntimeException {
+        private final long budgetMs;
+        private final long elapsedMs;
+
+        public DeadlineExceededException(String action, long budgetMs, long elapsedMs) {
+            super("Scenario budget of " + budgetMs + " ms exhausted after " + elapsedMs + " ms (at: " + action + ")");
+            this.budgetMs = budgetMs;
+            this.elapsedMs = elapsedMs;
+        }
+
+        public long getBudgetMs() {
+            return budgetMs;
+        }
+
+        public long getElapsedMs() {
+            return elapsedMs;
+        }
+    }
+
+    /**
+     * Starts the budget for the current thread's scenario.
+     *
+     * @param budgetMs Budget in milliseconds; zero or less means no budget.
+     */
+    public static void start(long budgetMs) {
+        if (budgetMs <= 0) {
+            budgetThreadLocal.remove();
+            return;
+        }
+        budgetThreadLocal.set(new Budget(budgetMs, System.nanoTime()));
+        logger.info("⏱️ Scenario budget: {} ms", budgetMs);
+    }
+
+    /**
+     * Parses a budget such as "90s", "1500ms" or "2m". A plain number is taken as seconds.
+     *
+     * @return The budget in milliseconds.
+     * @throws IllegalArgumentException If the budget is not in one of these forms or not positive.
+     */
+    public static long parse(String budget) {
+        String value = budget.trim().toLowerCase();
+        long millis;
+        try {
+            if (value.endsWith("ms")) {
+                millis = Long.parseLong(value.substring(0, value.length() - 2));
+            } else if (value.endsWith("m")) {
+                millis = Long.parseLong(value.substring(0, value.length() - 1)) * 60_000;
+            } else {
+                millis = Long.parseLong(value.endsWith("s") ? value.substring(0, value.length() - 1) : value) * 1000;
+            }
+        } catch (NumberFormatException e) {
+            throw invalidBudget(budget, e);
+        }
+        if (millis <= 0) {
+            throw invalidBudget(budget, null);
+        }
+        return millis;
+    }
+
+    private static IllegalArgumentException invalidBudget(String budget, Exception cause) {
+        return new IllegalArgumentException("Invalid scenario budget '" + budget + "': expected a positive value such as 90s, 1500ms or 2m", cause);
+    }
+
+    /**
+     * @return true when the current thread's scenario has a budget.
+     */
+    public static boolean isActive() {
+        return budgetThreadLocal.get() != null;
+    }
+
+    /**
+     * @return Milliseconds left (possibly negative), or Long.MAX_VALUE without a budget.
+     */
+    public static long remainingMillis() {
+        Budget budget = budgetThreadLocal.get();
+        return budget == null ? Long.MAX_VALUE : budget.budgetMs() - budget.elapsedMs();
+    }
+
+    /**
+     * @return Milliseconds since the budget started, or 0 without a budget.
+     */
+    public static long elapsedMillis() {
+        Budget budget = budgetThreadLocal.get();
+        return budget == null ? 0 : budget.elapsedMs();
+    }
+
+    /**
+     * @return The budget in milliseconds, or 0 without a budget.
+     */
+    public static long budgetMillis() {
+        Budget budget = budgetThreadLocal.get();
+        return budget == null ? 0 : budget.budgetMs();
+    }
+
+    /**
+     * Throws if the budget is used up.
+     *
+     * @param action What was about to run, for the error message.
+     */
+    public static void check(String action) {
+        Budget budget = budgetThreadLocal.get();
+        if (budget != null && budget.elapsedMs() >= budget.budgetMs()) {
+            throw new DeadlineExceededException(action, budget.budgetMs(), budget.elapsedMs());
+        }
+    }
+
+    /**
+     * Caps a timeout at the remaining budget. Playwright treats a timeout of 0 as "no timeout",
+     * so with an active budget 0 (or less) becomes the remaining budget.
+     *
+     * @param action    What the timeout is for, for the error message.
+     * @param timeoutMs Requested timeout in milliseconds.
+     * @return The smaller of the two.
+     */
+    public static int cap(String action, int timeoutMs) {
+        check(action);
+        if (!isActive()) {
+            return timeoutMs;
+        }
+        long remaining = remainingMillis();
+        return (int) (timeoutMs <= 0 ? remaining : Math.min(timeoutMs, remaining));
+    }
+
+    /**
+     * Caps the page's default timeout at the remaining budget, so actions and navigations that
+     * rely on it are bounded as well. The page is remembered for {@link #recap()}.
+     */
+    public static void applyTo(Page page) {
+        if (!isActive() || page == null) {
+            return;
+        }
+        pageThreadLocal.set(page);
+        page.setDefaultTimeout(cap("page timeout", PropertyFileReader.getIntProperty("defaultTimeout", 30000)));
+    }
+
+    /**
+     * Caps the default timeout of the page last passed to {@link #applyTo(Page)} again, and throws
+     * once the budget is used up. The helpers call this before every action, so a step with several
+     * actions cannot outlast the budget.
+     */
+    public static void recap() {
+        Page page = pageThreadLocal.get();
+        if (page == null || page.isClosed()) {
+            check("page timeout");
+            return;
+        }
+        applyTo(page);
+    }
+
+    /**
+     * Ends the budget of the current thread's scenario.
+     */
+    public static void clear() {
+        budgetThreadLocal.remove();
+        pageThreadLocal.remove();
+    }
+}
@@ -0,0 +1,105 @@
+package com.basesetup.playwright.utils.managers;
+
+import com.basesetup.playwright.utils.config.PropertyFileReader;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Long-lived BrowserContexts that hand out tabs to lightweight scenarios instead of creating a
+ * context per scenario. Scenarios in the same isolation group share a context, and therefore its
+ * cookies and storage; different groups never do. A context is retired after serving
+ * sharedContextCapacity tabs and closed once its last tab is released, which bounds how much state
+ * and memory it can accumulate. Like every Playwright object, the pool is owned by the current thread.
+ */
+public class SharedContextPool {
+    private static final Logger logger = LoggerFactory.getLogger(SharedContextPool.class);
+
+    private static final ThreadLocal<Map<String, SharedContext>> activeThreadLocal = ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<List<SharedContext>> retiredThreadLocal = ThreadLocal.withInitial(ArrayList::new);
+
+    private static final class SharedContext {
+        private final String group;
+        private final BrowserContext context;
+        private int served;
+        private int open;
+
+        private SharedContext(String group, BrowserContext context) {
+            this.group = group;
+            this.context = context;
+        }
+    }
+
+    /**
+     * Opens a tab in the group's shared context, creating or replacing the context as needed.
+     *
+     * @param group   Isolation group.
+     * @param factory Creates a fully configured context.
+     * @return The new tab.
+     */
+    public static Page newPage(String group, Supplier<BrowserContext> factory) {
+        Map<String, SharedContext> active = activeThreadLocal.get();
+        SharedContext shared = active.get(group);
+        if (shared == null || shared.served >= PropertyFileReader.getIntProperty("sharedContextCapacity", 20)) {
+            if (shared != null) {
+                retire(shared);
+            }
+            shared = new SharedContext(group, factory.get());
+            active.put(group, shared);
+            logger.info("🗂️ Shared context created for group '{}'", group);
+        }
+
+        Page page = shared.context.newPage();
+        shared.served++;
+        shared.open++;
+        return page;
+    }
+
+    /**
+     * Closes a tab handed out by {@link #newPage(String, Supplier)}, keeping its context for the next one.
+     */
+    public static void release(Page page) {
+        BrowserContext context = page.context();
+        page.close();
+
+        for (SharedContext shared : activeThreadLocal.get().values()) {
+            if (shared.context == context) {
+                shared.open--;
+                return;
+            }
+        }
+        List<SharedContext> retired = retiredThreadLocal.get();
+        for (SharedContext shared : List.copyOf(retired)) {
+            if (shared.context == context && --shared.open == 0) {
+                shared.context.close();
+                retired.remove(shared);
+            }
+        }
+    }
+
+    private static void retire(SharedContext shared) {
+        logger.info("♻️ Shared context for group '{}' retired after {} tab(s)", shared.group, shared.served);
+        if (shared.open == 0) {
+            shared.context.close();
+        } else {
+            retiredThreadLocal.get().add(shared);
+        }
+    }
+
+    /**
+     * Closes every shared context of the current thread.
+     */
+    public static void closeAll() {
+        activeThreadLocal.get().values().forEach(shared -> shared.context.close());
+        retiredThreadLocal.get().forEach(shared -> shared.context.close());
+        activeThreadLocal.remove();
+        retiredThreadLocal.remove();
+    }
+}
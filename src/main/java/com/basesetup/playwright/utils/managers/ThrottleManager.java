@@ -0,0 +1,103 @@
+package com.basesetup.playwright.utils.managers;
+
+import com.basesetup.playwright.utils.config.PropertyFileReader;
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.CDPSession;
+import com.microsoft.playwright.Page;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+
+/**
+ * Applies named network and CPU throttling profiles to Chromium pages through a CDP session.
+ * Profiles can be combined with commas, e.g. "3g,slow-cpu-4x".
+ */
+public class ThrottleManager {
+    private static final Logger logger = LoggerFactory.getLogger(ThrottleManager.class);
+
+    public static final String BASELINE = "baseline";
+
+    // latency (ms), download (bytes/s), upload (bytes/s) - values follow the Chrome DevTools presets
+    private static final Map<String, long[]> NETWORK_PROFILES = Map.of(
+            "slow-3g", new long[]{2000, 50_000, 50_000},
+            "3g", new long[]{563, 188_000, 86_400},
+            "4g", new long[]{170, 1_200_000, 700_000},
+            "offline", new long[]{0, 0, 0}
+    );
+
+    private static final Map<String, Integer> CPU_PROFILES = Map.of(
+            "slow-cpu-2x", 2,
+            "slow-cpu-4x", 4,
+            "slow-cpu-6x", 6
+    );
+
+    private static final ThreadLocal<String> profileThreadLocal = new ThreadLocal<>();
+
+    /**
+     * Sets the throttling profile for pages created on the current thread.
+     *
+     * @param profile Profile name(s), or null to fall back to the throttleProfile property.
+     */
+    public static void setProfile(String profile) {
+        if (profile == null) {
+            profileThreadLocal.remove();
+        } else {
+            profileThreadLocal.set(profile);
+        }
+    }
+
+    /**
+     * @return The active profile for the current thread, or "baseline" when unthrottled.
+     */
+    public static String getProfile() {
+        String profile = profileThreadLocal.get();
+        if (profile == null) {
+            profile = PropertyFileReader.getProperty("throttleProfile", "");
+        }
+        return profile.isBlank() ? BASELINE : profile.trim().toLowerCase();
+    }
+
+    /**
+     * Applies the active profile to the page. CDP sessions are page-scoped, so this runs per page.
+     * Other browser types are left unthrottled with a warning.
+     *
+     * @param context The BrowserContext owning the page.
+     * @param page    The page to throttle.
+     */
+    public static void apply(BrowserContext context, Page page) {
+        String profile = getProfile();
+        if (BASELINE.equals(profile)) {
+            return;
+        }
+
+        String browserName = context.browser() != null ? context.browser().browserType().name() : "unknown";
+        if (!"chromium".equals(browserName)) {
+            logger.warn("⚠️ Throttling profile '{}' needs Chromium; running unthrottled on {}", profile, browserName);
+            return;
+        }
+
+        CDPSession session = context.newCDPSession(page);
+        for (String name : profile.split(",")) {
+            String key = name.trim();
+            if (NETWORK_PROFILES.containsKey(key)) {
+                long[] conditions = NETWORK_PROFILES.get(key);
+                JsonObject params = new JsonObject();
+                params.addProperty("offline", "offline".equals(key));
+                params.addProperty("latency", conditions[0]);
+                params.addProperty("downloadThroughput", conditions[1]);
+                params.addProperty("uploadThroughput", conditions[2]);
+                session.send("Network.enable");
+                session.send("Network.emulateNetworkConditions", params);
+            } else if (CPU_PROFILES.containsKey(key)) {
+                JsonObject params = new JsonObject();
+                params.addProperty("rate", CPU_PROFILES.get(key));
+                session.send("Emulation.setCPUThrottlingRate", params);
+            } else {
+                throw new IllegalArgumentException("Unsupported throttling profile: " + key);
+            }
+        }
+        logger.info("🐢 Throttling profile '{}' applied for thread: {}", profile, Thread.currentThread().getId());
+    }
+}
@@ -0,0 +1,125 @@
+package com.basesetup.playwright.utils.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe, fixed-size latency histogram with log-linear buckets.
+ * Values below 16 ms are exact; larger values are bucketed with at most 12.5% relative error.
+ * Memory usage is constant no matter how many samples are recorded.
+ */
+public class LatencyHistogram {
+    private static final int LINEAR_BUCKETS = 16;
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = LINEAR_BUCKETS + (Long.SIZE - 4) * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a single latency sample.
+     *
+     * @param millis Latency in milliseconds. Negative values are clamped to 0.
+     */
+    public void record(long millis) {
+        long value = Math.max(0, millis);
+        buckets.incrementAndGet(bucketIndex(value));
+        count.increment();
+        sum.add(value);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * @return The number of recorded samples.
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * @return The sum of all recorded samples in milliseconds.
+     */
+    public long getTotal() {
+        return sum.sum();
+    }
+
+    /**
+     * @return The largest recorded sample in milliseconds.
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * @return The mean of all recorded samples in milliseconds, or 0 when empty.
+     */
+    public double getMean() {
+        long samples = getCount();
+        return samples == 0 ? 0 : (double) getTotal() / samples;
+    }
+
+    /**
+     * Estimates the value at the given percentile.
+     *
+     * @param percentile Percentile between 0 and 100.
+     * @return The estimated latency in milliseconds, or 0 when empty.
+     */
+    public long getPercentile(double percentile) {
+        long samples = getCount();
+        if (samples == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(samples * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) {
+                return Math.min(bucketValue(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Adds all samples of another histogram to this one.
+     *
+     * @param other The histogram to merge in.
+     */
+    public void merge(LatencyHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long bucket = other.buckets.get(i);
+            if (bucket > 0) buckets.addAndGet(i, bucket);
+        }
+        count.add(other.getCount());
+        sum.add(other.getTotal());
+        max.accumulateAndGet(other.getMax(), Math::max);
+    }
+
+    private static int bucketIndex(long value) {
+        if (value < LINEAR_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return LINEAR_BUCKETS + (exponent - 4) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Returns the midpoint of the bucket, which is the value reported for samples that fall in it.
+     */
+    private static long bucketValue(int index) {
+        if (index < LINEAR_BUCKETS) {
+            return index;
+        }
+        int exponent = (index - LINEAR_BUCKETS) / SUB_BUCKETS + 4;
+        int subBucket = (index - LINEAR_BUCKETS) % SUB_BUCKETS;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        long lower = (1L << exponent) + subBucket * width;
+        return lower + width / 2;
+    }
+}
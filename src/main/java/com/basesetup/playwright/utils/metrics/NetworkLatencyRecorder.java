@@ -0,0 +1,169 @@
+package com.basesetup.playwright.utils.metrics;
+
+import com.basesetup.playwright.utils.config.PropertyFileReader;
+import com.google.gson.GsonBuilder;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Request;
+import com.microsoft.playwright.options.Timing;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Opt-in recorder of per-request network timings. Requests are grouped by feature and URL pattern
+ * (method, host and path with ids replaced by {id}) into fixed-size histograms, so memory stays
+ * constant no matter how many requests a run makes.
+ */
+public class NetworkLatencyRecorder {
+    private static final Logger logger = LoggerFactory.getLogger(NetworkLatencyRecorder.class);
+    private static final Pattern ID_SEGMENT = Pattern.compile("/(\\d+|[0-9a-fA-F]{8}-[0-9a-fA-F-]{27}|[0-9a-fA-F]{16,})(?=/|$)");
+    private static final String UNKNOWN_FEATURE = "unknown";
+
+    private static final Map<String, Map<String, EndpointStats>> statsByFeature = new ConcurrentHashMap<>();
+    private static final ThreadLocal<String> featureThreadLocal = new ThreadLocal<>();
+
+    /**
+     * Timing breakdown of one URL pattern.
+     */
+    private static class EndpointStats {
+        final LatencyHistogram dns = new LatencyHistogram();
+        final LatencyHistogram connect = new LatencyHistogram();
+        final LatencyHistogram timeToFirstByte = new LatencyHistogram();
+        final LatencyHistogram download = new LatencyHistogram();
+        final LatencyHistogram total = new LatencyHistogram();
+        final LongAdder failures = new LongAdder();
+    }
+
+    /**
+     * @return true when enabled with recordNetworkLatency=true.
+     */
+    public static boolean isEnabled() {
+        return PropertyFileReader.getBooleanProperty("recordNetworkLatency", false);
+    }
+
+    /**
+     * Sets the feature that requests made on the current thread are attributed to.
+     *
+     * @param feature Feature identifier, typically the feature file URI.
+     */
+    public static void setFeature(String feature) {
+        featureThreadLocal.set(feature);
+    }
+
+    /**
+     * Starts listening to finished and failed requests of the context.
+     *
+     * @param context The BrowserContext to observe.
+     */
+    public static void attach(BrowserContext context) {
+        context.onRequestFinished(request -> record(request, false));
+        context.onRequestFailed(request -> record(request, true));
+    }
+
+    private static void record(Request request, boolean failed) {
+        try {
+            String feature = featureThreadLocal.get() != null ? featureThreadLocal.get() : UNKNOWN_FEATURE;
+            EndpointStats stats = statsByFeature
+                    .computeIfAbsent(feature, key -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(endpointKey(request), key -> new EndpointStats());
+
+            if (failed) {
+                stats.failures.increment();
+                return;
+            }
+
+            // Timing values are relative to startTime; -1 marks phases that did not happen (e.g. reused connections)
+            Timing timing = request.timing();
+            recordPhase(stats.dns, timing.domainLookupStart, timing.domainLookupEnd);
+            recordPhase(stats.connect, timing.connectStart, timing.connectEnd);
+            recordPhase(stats.timeToFirstByte, timing.requestStart, timing.responseStart);
+            recordPhase(stats.download, timing.responseStart, timing.responseEnd);
+            recordPhase(stats.total, 0, timing.responseEnd);
+        } catch (Exception e) {
+            logger.debug("Skipping network timing for {}: {}", request.url(), e.getMessage());
+        }
+    }
+
+    private static void recordPhase(LatencyHistogram histogram, double start, double end) {
+        if (start >= 0 && end >= start) {
+            histogram.record(Math.round(end - start));
+        }
+    }
+
+    /**
+     * Builds the URL pattern a request is aggregated under.
+     */
+    private static String endpointKey(Request request) {
+        URI uri = URI.create(request.url());
+        String path = uri.getPath() == null || uri.getPath().isEmpty() ? "/" : uri.getPath();
+        return request.method() + " " + uri.getHost() + ID_SEGMENT.matcher(path).replaceAll("/{id}");
+    }
+
+    /**
+     * Logs the slowest endpoints of every feature and writes the full summary as JSON.
+     *
+     * @param summaryFile Destination of the JSON summary.
+     * @param topN        Number of endpoints reported per feature, ordered by p95 total time.
+     */
+    public static void writeSummary(Path summaryFile, int topN) {
+        if (statsByFeature.isEmpty()) {
+            return;
+        }
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        statsByFeature.forEach((feature, endpoints) -> {
+            List<Map.Entry<String, EndpointStats>> slowest = endpoints.entrySet().stream()
+                    .sorted(Comparator.comparingLong((Map.Entry<String, EndpointStats> entry) -> entry.getValue().total.getPercentile(95)).reversed())
+                    .limit(topN)
+                    .toList();
+
+            Map<String, Object> featureSummary = new LinkedHashMap<>();
+            logger.info("🌐 Slowest endpoints for {}:", feature);
+            for (Map.Entry<String, EndpointStats> entry : slowest) {
+                EndpointStats stats = entry.getValue();
+                logger.info("   {} | count={} | failed={} | p50={} ms | p95={} ms | TTFB p95={} ms | download p95={} ms",
+                        entry.getKey(), stats.total.getCount(), stats.failures.sum(), stats.total.getPercentile(50),
+                        stats.total.getPercentile(95), stats.timeToFirstByte.getPercentile(95), stats.download.getPercentile(95));
+
+                Map<String, Object> endpoint = new LinkedHashMap<>();
+                endpoint.put("count", stats.total.getCount());
+                endpoint.put("failures", stats.failures.sum());
+                endpoint.put("dns", phaseSummary(stats.dns));
+                endpoint.put("connect", phaseSummary(stats.connect));
+                endpoint.put("timeToFirstByte", phaseSummary(stats.timeToFirstByte));
+                endpoint.put("download", phaseSummary(stats.download));
+                endpoint.put("total", phaseSummary(stats.total));
+                featureSummary.put(entry.getKey(), endpoint);
+            }
+            summary.put(feature, featureSummary);
+        });
+
+        try {
+            Files.createDirectories(summaryFile.toAbsolutePath().getParent());
+            Files.writeString(summaryFile, new GsonBuilder().setPrettyPrinting().create().toJson(summary));
+            logger.info("📝 Network latency summary written to {}", summaryFile.toAbsolutePath());
+        } catch (IOException e) {
+            logger.error("❌ Failed to write network latency summary {}: {}", summaryFile, e.getMessage(), e);
+        }
+    }
+
+    private static Map<String, Object> phaseSummary(LatencyHistogram histogram) {
+        Map<String, Object> phase = new LinkedHashMap<>();
+        phase.put("count", histogram.getCount());
+        phase.put("p50Ms", histogram.getPercentile(50));
+        phase.put("p95Ms", histogram.getPercentile(95));
+        phase.put("maxMs", histogram.getMax());
+        return phase;
+    }
+}
@@ -0,0 +1,26 @@
+package com.basesetup.playwright.utils.metrics;
+
+/**
+ * Web performance numbers captured from the page's Performance API.
+ * All timings are in milliseconds relative to the navigation start; -1 means "not available".
+ *
+ * @param label            Where the sample was taken (e.g. "setup", "step 2").
+ * @param url              Page URL at capture time.
+ * @param timeToFirstByte  responseStart of the navigation entry.
+ * @param domContentLoaded domContentLoadedEventEnd of the navigation entry.
+ * @param loadTime         loadEventEnd of the navigation entry.
+ * @param firstPaint       first-paint entry.
+ * @param firstContentfulPaint first-contentful-paint entry.
+ * @param largestContentfulPaint latest largest-contentful-paint entry.
+ * @param cumulativeLayoutShift  sum of layout shifts without recent input.
+ */
+public record PageMetrics(String label,
+                          String url,
+                          double timeToFirstByte,
+                          double domContentLoaded,
+                          double loadTime,
+                          double firstPaint,
+                          double firstContentfulPaint,
+                          double largestContentfulPaint,
+                          double cumulativeLayoutShift) {
+}
@@ -0,0 +1,180 @@
+package com.basesetup.playwright.utils.metrics;
+
+import com.basesetup.playwright.utils.config.PropertyFileReader;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects Navigation Timing, paint timings, LCP and CLS from the browser after navigations
+ * and keeps them per scenario (thread) and step.
+ */
+public class PerformanceRecorder {
+    private static final Logger logger = LoggerFactory.getLogger(PerformanceRecorder.class);
+
+    /**
+     * Installed in every page before its scripts run; LCP and CLS are only observable
+     * through PerformanceObserver, so they are accumulated into window.__pwPerf.
+     */
+    private static final String OBSERVER_SCRIPT = """
+            (() => {
+              if (window.__pwPerf) return;
+              const perf = window.__pwPerf = { lcp: -1, cls: 0 };
+              const supported = (PerformanceObserver.supportedEntryTypes || []);
+              if (supported.includes('largest-contentful-paint')) {
+                new PerformanceObserver(list => {
+                  const entries = list.getEntries();
+                  if (entries.length) perf.lcp = entries[entries.length - 1].startTime;
+                }).observe({ type: 'largest-contentful-paint', buffered: true });
+              }
+              if (supported.includes('layout-shift')) {
+                new PerformanceObserver(list => {
+                  for (const entry of list.getEntries()) if (!entry.hadRecentInput) perf.cls += entry.value;
+                }).observe({ type: 'layout-shift', buffered: true });
+              }
+            })();
+            """;
+
+    private static final String CAPTURE_SCRIPT = """
+            () => {
+              const nav = performance.getEntriesByType('navigation')[0];
+              const paint = {};
+              performance.getEntriesByType('paint').forEach(p => paint[p.name] = p.startTime);
+              const perf = window.__pwPerf || { lcp: -1, cls: 0 };
+              const since = value => (nav && value > 0) ? value - nav.startTime : -1;
+              return {
+                url: location.href,
+                ttfb: since(nav && nav.responseStart),
+                domContentLoaded: since(nav && nav.domContentLoadedEventEnd),
+                load: since(nav && nav.loadEventEnd),
+                firstPaint: paint['first-paint'] ?? -1,
+                fcp: paint['first-contentful-paint'] ?? -1,
+                lcp: perf.lcp,
+                cls: perf.cls
+              };
+            }
+            """;
+
+    private static final ThreadLocal<List<PageMetrics>> samplesThreadLocal = ThreadLocal.withInitial(ArrayList::new);
+    private static final ThreadLocal<Integer> stepThreadLocal = ThreadLocal.withInitial(() -> 0);
+
+    /**
+     * @return true unless capturing is disabled with capturePerformance=false.
+     */
+    public static boolean isEnabled() {
+        return PropertyFileReader.getBooleanProperty("capturePerformance", true);
+    }
+
+    /**
+     * Installs the LCP/CLS observers on every page of the context.
+     *
+     * @param context The BrowserContext to instrument.
+     */
+    public static void install(BrowserContext context) {
+        context.addInitScript(OBSERVER_SCRIPT);
+    }
+
+    /**
+     * Clears the samples of the current thread at the start of a scenario.
+     */
+    public static void startScenario() {
+        samplesThreadLocal.get().clear();
+        stepThreadLocal.set(0);
+    }
+
+    /**
+     * Advances the step counter used to label subsequent samples.
+     */
+    public static void nextStep() {
+        stepThreadLocal.set(stepThreadLocal.get() + 1);
+    }
+
+    /**
+     * Fires once the load event has completed, so loadEventEnd is no longer 0.
+     */
+    private static final String LOAD_COMPLETE_SCRIPT = """
+            () => {
+              if (document.readyState !== 'complete') return false;
+              const nav = performance.getEntriesByType('navigation')[0];
+              return !nav || nav.loadEventEnd > 0;
+            }
+            """;
+
+    /**
+     * Reads the current performance numbers from the page and records them for the current scenario.
+     * Waits for the load event to complete first, so no sample has an unfinished load time.
+     *
+     * @param page The page to read from.
+     * @return The captured metrics, or null if capturing is disabled or failed.
+     */
+    public static PageMetrics capture(Page page) {
+        if (!isEnabled()) {
+            return null;
+        }
+
+        try {
+            PageMetrics metrics = read(page);
+            samplesThreadLocal.get().add(metrics);
+            logger.info("⏱️ Performance [{}] {} | TTFB: {} ms | DCL: {} ms | Load: {} ms | FCP: {} ms | LCP: {} ms | CLS: {}",
+                    metrics.label(), metrics.url(), metrics.timeToFirstByte(), metrics.domContentLoaded(), metrics.loadTime(),
+                    metrics.firstContentfulPaint(), metrics.largestContentfulPaint(), metrics.cumulativeLayoutShift());
+            return metrics;
+        } catch (Exception e) {
+            logger.error("❌ Failed to capture performance metrics: {}", e.getMessage(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Reads the current performance numbers without recording them, for assertions.
+     * Waits for the load event to complete first so the load time is available.
+     *
+     * @param page The page to read from.
+     * @return The metrics, or null if capturing is disabled or failed.
+     */
+    public static PageMetrics measure(Page page) {
+        if (!isEnabled()) {
+            return null;
+        }
+
+        try {
+            return read(page);
+        } catch (Exception e) {
+            logger.error("❌ Failed to measure performance metrics: {}", e.getMessage(), e);
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static PageMetrics read(Page page) {
+        page.waitForFunction(LOAD_COMPLETE_SCRIPT);
+        Map<String, Object> raw = (Map<String, Object>) page.evaluate(CAPTURE_SCRIPT);
+        int step = stepThreadLocal.get();
+        return new PageMetrics(
+                step == 0 ? "setup" : "step " + step,
+                String.valueOf(raw.get("url")),
+                number(raw.get("ttfb")),
+                number(raw.get("domContentLoaded")),
+                number(raw.get("load")),
+                number(raw.get("firstPaint")),
+                number(raw.get("fcp")),
+                number(raw.get("lcp")),
+                number(raw.get("cls")));
+    }
+
+    /**
+     * @return The samples recorded for the current scenario.
+     */
+    public static List<PageMetrics> getSamples() {
+        return List.copyOf(samplesThreadLocal.get());
+    }
+
+    private static double number(Object value) {
+        return value instanceof Number number ? number.doubleValue() : -1;
+    }
+}
@@ -0,0 +1,91 @@
+package com.basesetup.playwright.utils.metrics;
+
+import com.basesetup.playwright.utils.managers.ThrottleManager;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps average page timings per scenario and throttling profile, so throttled runs can be
+ * reported next to the unthrottled baseline. Results are merged into a JSON file that survives
+ * across runs, letting a baseline recorded earlier be compared with today's throttled run.
+ */
+public class ThrottleComparison {
+    private static final Logger logger = LoggerFactory.getLogger(ThrottleComparison.class);
+    private static final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+    private static final Type REPORT_TYPE = new TypeToken<TreeMap<String, TreeMap<String, Map<String, Double>>>>() {}.getType();
+
+    private static final Map<String, Map<String, Map<String, Double>>> results = new ConcurrentHashMap<>();
+
+    /**
+     * Records the averaged samples of a scenario under the given profile.
+     *
+     * @param scenario Scenario name.
+     * @param profile  Throttling profile, or "baseline".
+     * @param samples  Samples captured during the scenario.
+     */
+    public static void record(String scenario, String profile, List<PageMetrics> samples) {
+        if (samples.isEmpty()) {
+            return;
+        }
+
+        Map<String, Double> averages = new TreeMap<>();
+        averages.put("timeToFirstByte", average(samples.stream().mapToDouble(PageMetrics::timeToFirstByte).toArray()));
+        averages.put("loadTime", average(samples.stream().mapToDouble(PageMetrics::loadTime).toArray()));
+        averages.put("firstContentfulPaint", average(samples.stream().mapToDouble(PageMetrics::firstContentfulPaint).toArray()));
+        averages.put("largestContentfulPaint", average(samples.stream().mapToDouble(PageMetrics::largestContentfulPaint).toArray()));
+        results.computeIfAbsent(scenario, key -> new ConcurrentHashMap<>()).put(profile, averages);
+    }
+
+    /**
+     * Merges this run's results into the report file and logs each throttled timing next to its baseline.
+     *
+     * @param reportFile The JSON file to merge into.
+     */
+    public static synchronized void write(Path reportFile) {
+        if (results.isEmpty()) {
+            return;
+        }
+
+        try {
+            TreeMap<String, TreeMap<String, Map<String, Double>>> report = Files.exists(reportFile)
+                    ? gson.fromJson(Files.readString(reportFile), REPORT_TYPE)
+                    : new TreeMap<>();
+            results.forEach((scenario, profiles) -> report.computeIfAbsent(scenario, key -> new TreeMap<>()).putAll(profiles));
+
+            report.forEach((scenario, profiles) -> {
+                Map<String, Double> baseline = profiles.get(ThrottleManager.BASELINE);
+                profiles.forEach((profile, timings) -> {
+                    if (baseline == null || ThrottleManager.BASELINE.equals(profile) || !results.containsKey(scenario)) return;
+                    double baselineLoad = baseline.getOrDefault("loadTime", -1.0);
+                    double throttledLoad = timings.getOrDefault("loadTime", -1.0);
+                    logger.info("🐢 {} | Load: {} ms ({}) vs {} ms (baseline) | x{}", scenario,
+                            String.format("%.0f", throttledLoad), profile, String.format("%.0f", baselineLoad),
+                            baselineLoad > 0 ? String.format("%.1f", throttledLoad / baselineLoad) : "n/a");
+                });
+            });
+
+            Files.createDirectories(reportFile.toAbsolutePath().getParent());
+            Files.writeString(reportFile, gson.toJson(report));
+            logger.info("📝 Throttling comparison written to {}", reportFile.toAbsolutePath());
+        } catch (IOException e) {
+            logger.error("❌ Failed to write throttling comparison {}: {}", reportFile, e.getMessage(), e);
+        }
+    }
+
+    private static double average(double[] values) {
+        return Arrays.stream(values).filter(value -> value >= 0).average().orElse(-1);
+    }
+}
@@ -0,0 +1,137 @@
+package com.basesetup.playwright.utils.network;
+
+import com.basesetup.playwright.utils.config.PropertyFileReader;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Request;
+import com.microsoft.playwright.TimeoutError;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Counts the requests a page has in flight, fed by its request, requestfinished and requestfailed
+ * events. Requests matching networkSettledExclude (long polling, analytics beacons, ...) are ignored.
+ * {@link #awaitNetworkSettled(int, int)} returns as soon as nothing has been in flight for the
+ * quiet period, instead of sleeping for a fixed time or waiting for NETWORKIDLE.
+ */
+public class InFlightRequestTracker {
+    private static final Logger logger = LoggerFactory.getLogger(InFlightRequestTracker.class);
+    private static final String DEFAULT_EXCLUDE = ".*(google-analytics\\.com|googletagmanager\\.com|doubleclick\\.net|/collect\\?).*";
+    private static final int POLL_MS = 25;
+
+    // The tracker references its page, so a weak map would never release it; entries go on page close instead
+    private static final Map<Page, InFlightRequestTracker> trackers = Collections.synchronizedMap(new HashMap<>());
+    private static final Pattern exclude = compileExclude();
+
+    private final Page page;
+    private final Set<Request> inFlight = Collections.newSetFromMap(new IdentityHashMap<>());
+    private volatile long lastActivityNanos = System.nanoTime();
+
+    private InFlightRequestTracker(Page page) {
+        this.page = page;
+    }
+
+    private static Pattern compileExclude() {
+        String regex = PropertyFileReader.getProperty("networkSettledExclude", DEFAULT_EXCLUDE);
+        return regex.isEmpty() ? null : Pattern.compile(regex);
+    }
+
+    /**
+     * Starts tracking a page. Calling it again for the same page has no effect. The tracker is
+     * released when the page closes, which includes closing its context.
+     *
+     * @param page The page to track.
+     * @return The page's tracker.
+     */
+    public static InFlightRequestTracker attach(Page page) {
+        return trackers.computeIfAbsent(page, key -> {
+            InFlightRequestTracker tracker = new InFlightRequestTracker(key);
+            key.onRequest(tracker::started);
+            key.onRequestFinished(tracker::ended);
+            key.onRequestFailed(tracker::ended);
+            key.onClose(closed -> trackers.remove(closed));
+            return tracker;
+        });
+    }
+
+    /**
+     * @return The tracker of the page. Pages not tracked yet are attached now, so requests already
+     * in flight are missed.
+     */
+    public static InFlightRequestTracker forPage(Page page) {
+        InFlightRequestTracker tracker = trackers.get(page);
+        if (tracker == null) {
+            logger.warn("⚠️ Page was not tracked from creation | Requests already in flight are not counted");
+            tracker = attach(page);
+        }
+        return tracker;
+    }
+
+    private void started(Request request) {
+        if (exclude != null && exclude.matcher(request.url()).matches()) {
+            return;
+        }
+        synchronized (inFlight) {
+            inFlight.add(request);
+        }
+        lastActivityNanos = System.nanoTime();
+    }
+
+    private void ended(Request request) {
+        boolean tracked;
+        synchronized (inFlight) {
+            tracked = inFlight.remove(request);
+        }
+        if (tracked) {
+            lastActivityNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * @return Number of tracked requests currently in flight.
+     */
+    public int getInFlightCount() {
+        synchronized (inFlight) {
+            return inFlight.size();
+        }
+    }
+
+    /**
+     * Waits until no tracked request has been in flight for quietMs. Playwright delivers events
+     * while the page waits, so the wait is done in short page.waitForTimeout slices.
+     *
+     * @param quietMs   How long the network must stay idle.
+     * @param timeoutMs Maximum time to wait.
+     * @throws TimeoutError If requests are still in flight when the timeout expires.
+     */
+    public void awaitNetworkSettled(int quietMs, int timeoutMs) {
+        long start = System.nanoTime();
+        long deadline = start + timeoutMs * 1_000_000L;
+        while (true) {
+            long now = System.nanoTime();
+            int pending = getInFlightCount();
+            long idleMs = (now - lastActivityNanos) / 1_000_000;
+            if (pending == 0 && idleMs >= quietMs) {
+                logger.info("🌐 Network settled after {} ms", (now - start) / 1_000_000);
+                return;
+            }
+            if (now >= deadline) {
+                throw new TimeoutError("Network not settled within " + timeoutMs + " ms: " + describePending());
+            }
+            long untilDeadline = (deadline - now) / 1_000_000;
+            page.waitForTimeout(Math.max(1, Math.min(POLL_MS, untilDeadline)));
+        }
+    }
+
+    private String describePending() {
+        synchronized (inFlight) {
+            return inFlight.size() + " request(s) in flight " + inFlight.stream().limit(5).map(Request::url).toList();
+        }
+    }
+}
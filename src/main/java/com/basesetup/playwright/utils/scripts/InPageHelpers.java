@@ -0,0 +1,80 @@
+package com.basesetup.playwright.utils.scripts;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Locator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Java side of the in-page helper bundle (js/pw-helpers.js). The bundle is installed once per
+ * context, after which helpers evaluate a short call such as {@code window.__pwh.rowCount(el)}
+ * instead of shipping their own function source on every call. Pages that were not created
+ * through PlaywrightManager get the bundle on first use.
+ */
+public class InPageHelpers {
+    private static final String BUNDLE = loadBundle();
+    private static final String MISSING = "__pwhMissing";
+
+    private static String loadBundle() {
+        try (InputStream in = InPageHelpers.class.getResourceAsStream("/js/pw-helpers.js")) {
+            if (in == null) {
+                throw new IllegalStateException("In-page helper bundle js/pw-helpers.js not found on the classpath");
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error reading in-page helper bundle", e);
+        }
+    }
+
+    /**
+     * Installs the bundle into every current and future page of the context.
+     */
+    public static void install(BrowserContext context) {
+        context.addInitScript(BUNDLE);
+    }
+
+    /**
+     * Calls {@code window.__pwh.<function>(element, arg)} on the element matched by the locator.
+     */
+    public static Object call(Locator locator, String function, Object arg) {
+        String expression = "(el, arg) => " + guard() + "window.__pwh." + function + "(el, arg)";
+        return withBundle(locator, () -> locator.evaluate(expression, arg));
+    }
+
+    public static Object call(Locator locator, String function) {
+        return call(locator, function, null);
+    }
+
+    /**
+     * Calls {@code window.__pwh.<function>(elements, arg)} on all elements matched by the locator.
+     */
+    public static Object callAll(Locator locator, String function, Object arg) {
+        String expression = "(elements, arg) => " + guard() + "window.__pwh." + function + "(elements, arg)";
+        return withBundle(locator, () -> locator.evaluateAll(expression, arg));
+    }
+
+    public static Object callAll(Locator locator, String function) {
+        return callAll(locator, function, null);
+    }
+
+    /**
+     * Makes the call return a marker object instead of failing when the page has no bundle.
+     */
+    private static String guard() {
+        return "typeof window.__pwh === 'undefined' ? { " + MISSING + ": true } : ";
+    }
+
+    private static Object withBundle(Locator locator, Supplier<Object> evaluation) {
+        Object result = evaluation.get();
+        if (result instanceof Map<?, ?> map && map.containsKey(MISSING)) {
+            locator.page().evaluate(BUNDLE); // Page not created through PlaywrightManager, e.g. a popup
+            result = evaluation.get();
+        }
+        return result;
+    }
+}
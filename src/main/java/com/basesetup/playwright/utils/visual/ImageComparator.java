@@ -0,0 +1,173 @@
+package com.basesetup.playwright.utils.visual;
+
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+/**
+ * Compares two screenshots. A 64-bit difference hash is computed first and, when the precheck is
+ * enabled, identical hashes on same-sized images skip the pixel diff entirely. Otherwise the images
+ * are compared tile by tile in parallel: tiles whose raw pixels are identical are skipped, the rest
+ * get a per-pixel diff. Pixels that only differ because of anti-aliasing (a matching pixel exists in
+ * the neighbourhood of the other image) are tolerated.
+ */
+public class ImageComparator {
+    private static final int TILE_SIZE = 64;
+    private static final int DIFF_COLOR = 0xFFFF0000;
+    private static final int ANTI_ALIAS_COLOR = 0xFFFFD700;
+
+    private final int colorThreshold;
+    private final boolean hashPrecheck;
+
+    /**
+     * Result of a comparison.
+     *
+     * @param hashDistance Hamming distance between the perceptual hashes (0-64).
+     * @param pixelDiffRun Whether the full pixel diff was needed.
+     * @param diffPixels   Number of differing pixels, anti-aliasing excluded.
+     * @param diffRatio    diffPixels relative to the image area.
+     * @param diffImage    Visualisation of the differences, or null when no pixel diff ran.
+     */
+    public record Comparison(int hashDistance, boolean pixelDiffRun, long diffPixels, double diffRatio, BufferedImage diffImage) {
+    }
+
+    /**
+     * @param threshold    Per-pixel colour tolerance between 0 (exact) and 1 (anything matches).
+     * @param hashPrecheck Whether matching perceptual hashes are trusted without a pixel diff.
+     *                     Faster, but small localised changes can keep the hash unchanged.
+     */
+    public ImageComparator(double threshold, boolean hashPrecheck) {
+        this.colorThreshold = (int) Math.round(Math.max(0, Math.min(1, threshold)) * 255);
+        this.hashPrecheck = hashPrecheck;
+    }
+
+    /**
+     * Compares the actual image with the expected one. Runs its tiles on the calling thread's
+     * ForkJoinPool when called from one, which keeps the work inside a bounded pool.
+     */
+    public Comparison compare(BufferedImage expected, BufferedImage actual) {
+        int hashDistance = Long.bitCount(differenceHash(expected) ^ differenceHash(actual));
+        boolean sameSize = expected.getWidth() == actual.getWidth() && expected.getHeight() == actual.getHeight();
+        if (!sameSize) {
+            long area = (long) Math.max(expected.getWidth(), actual.getWidth()) * Math.max(expected.getHeight(), actual.getHeight());
+            return new Comparison(hashDistance, false, area, 1.0, null);
+        }
+        if (hashPrecheck && hashDistance == 0) {
+            return new Comparison(0, false, 0, 0, null);
+        }
+
+        int width = actual.getWidth();
+        int height = actual.getHeight();
+        BufferedImage diffImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        AtomicLong diffPixels = new AtomicLong();
+        int tilesX = (width + TILE_SIZE - 1) / TILE_SIZE;
+        int tilesY = (height + TILE_SIZE - 1) / TILE_SIZE;
+
+        IntStream.range(0, tilesX * tilesY).parallel().forEach(tile -> {
+            int startX = (tile % tilesX) * TILE_SIZE;
+            int startY = (tile / tilesX) * TILE_SIZE;
+            int tileWidth = Math.min(TILE_SIZE, width - startX);
+            int tileHeight = Math.min(TILE_SIZE, height - startY);
+            int[] expectedTile = expected.getRGB(startX, startY, tileWidth, tileHeight, null, 0, tileWidth);
+            int[] actualTile = actual.getRGB(startX, startY, tileWidth, tileHeight, null, 0, tileWidth);
+            if (Arrays.equals(expectedTile, actualTile)) {
+                for (int i = 0; i < actualTile.length; i++) actualTile[i] = faded(actualTile[i]);
+                diffImage.setRGB(startX, startY, tileWidth, tileHeight, actualTile, 0, tileWidth);
+                return;
+            }
+
+            long tileDiffs = 0;
+            for (int y = startY; y < startY + tileHeight; y++) {
+                for (int x = startX; x < startX + tileWidth; x++) {
+                    int expectedPixel = expected.getRGB(x, y);
+                    int actualPixel = actual.getRGB(x, y);
+                    if (matches(expectedPixel, actualPixel)) {
+                        diffImage.setRGB(x, y, faded(actualPixel));
+                    } else if (isAntiAliased(expected, actual, x, y) || isAntiAliased(actual, expected, x, y)) {
+                        diffImage.setRGB(x, y, ANTI_ALIAS_COLOR);
+                    } else {
+                        diffImage.setRGB(x, y, DIFF_COLOR);
+                        tileDiffs++;
+                    }
+                }
+            }
+            diffPixels.addAndGet(tileDiffs);
+        });
+
+        long diffs = diffPixels.get();
+        return new Comparison(hashDistance, true, diffs, (double) diffs / ((long) width * height), diffImage);
+    }
+
+    private boolean matches(int first, int second) {
+        return Math.abs(((first >> 16) & 0xFF) - ((second >> 16) & 0xFF)) <= colorThreshold
+                && Math.abs(((first >> 8) & 0xFF) - ((second >> 8) & 0xFF)) <= colorThreshold
+                && Math.abs((first & 0xFF) - (second & 0xFF)) <= colorThreshold;
+    }
+
+    /**
+     * A pixel counts as anti-aliased when the same colour exists within one pixel in the other image.
+     */
+    private boolean isAntiAliased(BufferedImage source, BufferedImage other, int x, int y) {
+        int pixel = source.getRGB(x, y);
+        for (int dy = -1; dy <= 1; dy++) {
+            for (int dx = -1; dx <= 1; dx++) {
+                int nx = x + dx;
+                int ny = y + dy;
+                if ((dx != 0 || dy != 0) && nx >= 0 && ny >= 0 && nx < other.getWidth() && ny < other.getHeight()
+                        && matches(pixel, other.getRGB(nx, ny))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static int faded(int pixel) {
+        int gray = luminance(pixel);
+        int light = 255 - (255 - gray) / 4;
+        return 0xFF000000 | (light << 16) | (light << 8) | light;
+    }
+
+    private static int luminance(int pixel) {
+        return (int) (0.299 * ((pixel >> 16) & 0xFF) + 0.587 * ((pixel >> 8) & 0xFF) + 0.114 * (pixel & 0xFF));
+    }
+
+    /**
+     * 64-bit dHash: the image is reduced to 9x8 grayscale cells and each bit records whether a
+     * cell is brighter than its right neighbour.
+     */
+    private static long differenceHash(BufferedImage image) {
+        int[][] cells = new int[8][9];
+        int width = image.getWidth();
+        int height = image.getHeight();
+        for (int row = 0; row < 8; row++) {
+            for (int col = 0; col < 9; col++) {
+                int x0 = col * width / 9;
+                int x1 = Math.max(x0 + 1, (col + 1) * width / 9);
+                int y0 = row * height / 8;
+                int y1 = Math.max(y0 + 1, (row + 1) * height / 8);
+                long sum = 0;
+                int samples = 0;
+                // Sample at most an 8x8 grid per cell to keep hashing cheap on large screenshots
+                int stepX = Math.max(1, (x1 - x0) / 8);
+                int stepY = Math.max(1, (y1 - y0) / 8);
+                for (int y = y0; y < Math.min(y1, height); y += stepY) {
+                    for (int x = x0; x < Math.min(x1, width); x += stepX) {
+                        sum += luminance(image.getRGB(x, y));
+                        samples++;
+                    }
+                }
+                cells[row][col] = samples == 0 ? 0 : (int) (sum / samples);
+            }
+        }
+
+        long hash = 0;
+        for (int row = 0; row < 8; row++) {
+            for (int col = 0; col < 8; col++) {
+                hash = (hash << 1) | (cells[row][col] > cells[row][col + 1] ? 1 : 0);
+            }
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * In-page helpers used by the Java helper classes (window.__pwh).
+ * Installed once per BrowserContext with addInitScript; bump VERSION on any change.
+ */
+(() => {
+  const VERSION = 2;
+  if (window.__pwh && window.__pwh.version >= VERSION) {
+    return;
+  }
+
+  const rows = table => Array.from(table.querySelectorAll('tr'));
+  const cells = row => Array.from(row.querySelectorAll('td,th'));
+  const cellValue = (row, colIndex) => {
+    const cell = cells(row)[colIndex];
+    return cell ? cell.innerText : '';
+  };
+  const cellText = (table, rowIndex, colIndex) => {
+    const row = rows(table)[rowIndex];
+    return row ? cellValue(row, colIndex) : '';
+  };
+
+  Object.defineProperty(window, '__pwh', {
+    configurable: true,
+    value: Object.freeze({
+      version: VERSION,
+
+      // Dropdowns
+      selectedText: select => select.selectedIndex < 0 ? null : select.options[select.selectedIndex].text,
+      optionTexts: elements => elements.flatMap(el =>
+        el.tagName === 'SELECT' ? Array.from(el.options, option => option.textContent) : [el.textContent]),
+
+      // Tables
+      tableData: table => rows(table).map(row => cells(row).map(cell => cell.innerText)),
+      cellText: (table, [rowIndex, colIndex]) => cellText(table, rowIndex, colIndex),
+      columnValues: (table, colIndex) => rows(table).map(row => cellValue(row, colIndex)),
+      findRow: (table, [colIndex, text, trim]) => rows(table).findIndex(row => {
+        const value = cellValue(row, colIndex);
+        return (trim ? value.trim() : value) === text;
+      }),
+      rowCount: table => rows(table).length,
+      columnCount: table => {
+        const first = rows(table)[0];
+        return first ? cells(first).length : 0;
+      },
+      tableContains: (table, text) => Array.from(table.querySelectorAll('td,th')).some(cell => cell.innerText === text),
+
+      // Checkboxes
+      checkedStates: elements => elements.map(el => !!el.checked),
+
+      // Assertions
+      trimmedText: el => (el.textContent || '').trim()
+    })
+  });
+})();
@@ -1,23 +1,75 @@
 package com.basesetup.playwright.hooks;
 
+import com.basesetup.playwright.helpers.VisualHelper;
+import com.basesetup.playwright.plugins.LoadMetricsPlugin;
+import com.basesetup.playwright.utils.artifacts.ArtifactStore;
+import com.basesetup.playwright.utils.data.DataFeed;
+import com.basesetup.playwright.utils.managers.AdaptiveConcurrencyController;
+import com.basesetup.playwright.utils.managers.EnvironmentCircuitBreaker;
 import com.basesetup.playwright.utils.managers.PlaywrightManager;
+import com.basesetup.playwright.utils.managers.ScenarioDeadline;
 import com.basesetup.playwright.utils.config.PropertyFileReader;
+import com.basesetup.playwright.utils.metrics.NetworkLatencyRecorder;
+import com.basesetup.playwright.utils.metrics.PageMetrics;
+import com.basesetup.playwright.utils.managers.ThrottleManager;
+import com.basesetup.playwright.utils.metrics.PerformanceRecorder;
+import com.basesetup.playwright.utils.metrics.ThrottleComparison;
+import com.google.gson.Gson;
 import com.microsoft.playwright.Page;
 import com.microsoft.playwright.PlaywrightException;
+import com.microsoft.playwright.Response;
 import io.cucumber.java.After;
+import io.cucumber.java.AfterAll;
 import io.cucumber.java.Before;
+import io.cucumber.java.BeforeStep;
 import io.cucumber.java.Scenario;
+import org.opentest4j.TestAbortedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
 public class Hooks {
     private static final Logger logger = LoggerFactory.getLogger(Hooks.class);
+    private static final String THROTTLE_TAG_PREFIX = "@throttle:";
+    private static final String SHARED_CONTEXT_TAG = "@shared-context";
+    private static final String BUDGET_TAG_PREFIX = "@budget:";
+
+    private boolean started; // False for scenarios skipped before setup, which have nothing to tear down
+
+    @Before(value = "@datafeed", order = 0)
+    public void bindDataRecord(Scenario scenario) {
+        DataFeed.selectRecord(Path.of(scenario.getUri()), scenario.getLine()); // Examples row generated by DataFeedRunner
+    }
 
     @Before
     public void setup(Scenario scenario) {
+        if (LoadMetricsPlugin.isFinished()) {
+            throw new TestAbortedException("Load run finished"); // Remaining repetitions of a load run
+        }
+        if (EnvironmentCircuitBreaker.isEnabled() && !EnvironmentCircuitBreaker.allowRequest()) {
+            logger.warn("⏭️ Skipping Scenario: {} | {}", scenario.getName(), EnvironmentCircuitBreaker.describe());
+            throw new TestAbortedException(EnvironmentCircuitBreaker.describe()); // Reported as skipped, not failed
+        }
+        if (AdaptiveConcurrencyController.isEnabled()) {
+            AdaptiveConcurrencyController.acquire();
+        }
+        started = true;
         logger.info("🚀 Starting Scenario: {}", scenario.getName());
+        ScenarioDeadline.start(budgetOf(scenario));
 
         PlaywrightManager.initBrowser();
+        PerformanceRecorder.startScenario();
+        NetworkLatencyRecorder.setFeature(scenario.getUri().toString());
+        ThrottleManager.setProfile(scenario.getSourceTagNames().stream()
+                .filter(tag -> tag.startsWith(THROTTLE_TAG_PREFIX))
+                .map(tag -> tag.substring(THROTTLE_TAG_PREFIX.length()))
+                .findFirst()
+                .orElse(null));
+        PlaywrightManager.setSharedContextGroup(getSharedContextGroup(scenario));
         Page page = PlaywrightManager.createPage();
 
         String baseUrl = PropertyFileReader.getProperty("baseUrl", "https://example.com");
@@ -25,29 +77,85 @@ public class Hooks {
             logger.warn("⚠️ Base URL is not set in the configuration.");
         } else {
             logger.info("🌍 Navigating to base URL: {}", baseUrl);
+            String failure;
             try {
-                page.navigate(baseUrl);
+                Response response = page.navigate(baseUrl);
+                failure = response != null && response.status() >= 500 ? "HTTP " + response.status() + " from " + baseUrl : null;
             } catch (PlaywrightException e) {
-                logger.error("❌ Failed to navigate to Base URL: {} | Error: {}", baseUrl, e.getMessage());
+                failure = e.getMessage().lines().findFirst().orElse("Navigation failed");
+            }
+
+            if (failure == null) {
+                EnvironmentCircuitBreaker.recordSuccess();
+                PerformanceRecorder.capture(page);
+            } else {
+                logger.error("❌ Failed to navigate to Base URL: {} | Error: {}", baseUrl, failure);
+                if (EnvironmentCircuitBreaker.isEnabled()) {
+                    EnvironmentCircuitBreaker.recordFailure(failure);
+                    throw new IllegalStateException("Environment unavailable: " + failure); // Fail fast instead of waiting out every step's timeout
+                }
             }
         }
     }
 
+    @BeforeStep
+    public void beforeStep() {
+        PerformanceRecorder.nextStep();
+        ScenarioDeadline.applyTo(PlaywrightManager.getPage()); // Throws once the budget is used up
+    }
+
+    @After(order = 20000)
+    public void verifyVisualChecks() {
+        VisualHelper.awaitPendingComparisons(); // Runs before tearDown so a mismatch still gets a failure screenshot
+    }
+
     @After
     public void tearDown(Scenario scenario) {
-        Page page = PlaywrightManager.getPage();
+        if (!started) {
+            logger.info("⏭️ Skipped Scenario: {}", scenario.getName());
+            return;
+        }
+        attachPerformanceMetrics(scenario);
+        attachDeadlineTiming(scenario);
+        ThrottleComparison.record(scenario.getName(), ThrottleManager.getProfile(), PerformanceRecorder.getSamples());
 
         if (scenario.isFailed()) {
             logger.error("❌ Scenario Failed: {}", scenario.getName());
-            takeScreenshot(scenario, page);
+            takeScreenshot(scenario, PlaywrightManager.getPage());
         } else {
             logger.info("✅ Scenario Passed: {}", scenario.getName());
         }
 
         PlaywrightManager.closeContext(); // Close only thread-local Page & Context
+        ScenarioDeadline.clear();
         logger.info("🛑 Closed browser context after scenario: {}", scenario.getName());
     }
 
+    @After(order = 0)
+    public void releaseConcurrencySlot() {
+        AdaptiveConcurrencyController.release(); // Runs last so the slot covers teardown work too
+    }
+
+    @AfterAll
+    public static void afterAll() {
+        ThrottleComparison.write(Path.of(PropertyFileReader.getProperty("throttleReportFile", "target/performance/throttle-comparison.json")));
+        NetworkLatencyRecorder.writeSummary(Path.of("target/performance/network-latency.json"),
+                PropertyFileReader.getIntProperty("networkLatencyTopN", 10));
+    }
+
+    /**
+     * Resolves the shared-context group from @shared-context (group "default") or @shared-context:&lt;group&gt;.
+     *
+     * @return The group, or null when the scenario needs a dedicated context.
+     */
+    private String getSharedContextGroup(Scenario scenario) {
+        return scenario.getSourceTagNames().stream()
+                .filter(tag -> tag.equals(SHARED_CONTEXT_TAG) || tag.startsWith(SHARED_CONTEXT_TAG + ":"))
+                .map(tag -> tag.equals(SHARED_CONTEXT_TAG) ? "default" : tag.substring(SHARED_CONTEXT_TAG.length() + 1))
+                .findFirst()
+                .orElse(null);
+    }
+
     /**
      * Takes a screenshot if a scenario fails.
      */
@@ -59,11 +167,58 @@ public class Hooks {
 
         try {
             logger.info("📸 Capturing screenshot on failure. Current URL: {}", page.url());
-            byte[] screenshot = page.screenshot();
-            scenario.attach(screenshot, "image/png", "Failure Screenshot");
+            // The page timeout may have been capped to an exhausted scenario budget
+            byte[] screenshot = page.screenshot(new Page.ScreenshotOptions().setTimeout(PropertyFileReader.getIntProperty("defaultTimeout", 30000)));
+            if (PropertyFileReader.getBooleanProperty("embedFailureScreenshots", false)) {
+                scenario.attach(screenshot, "image/png", "Failure Screenshot");
+            } else {
+                ArtifactStore.StoredArtifact artifact = ArtifactStore.store(screenshot, "image/png", scenario.getName() + " / Failure Screenshot");
+                // Link relative to target/, where the reports live
+                String link = Path.of("target").toAbsolutePath().relativize(artifact.path().toAbsolutePath()).toString().replace('\\', '/');
+                scenario.attach(link, "text/uri-list", "Failure Screenshot");
+            }
             logger.info("✅ Screenshot captured for failed scenario: {}", scenario.getName());
-        } catch (PlaywrightException e) {
+        } catch (PlaywrightException | IOException e) {
             logger.error("❌ Failed to capture screenshot: {}", e.getMessage());
         }
     }
+
+    /**
+     * Attaches the performance samples recorded during the scenario to the report.
+     */
+    private void attachPerformanceMetrics(Scenario scenario) {
+        List<PageMetrics> samples = PerformanceRecorder.getSamples();
+        if (!samples.isEmpty()) {
+            scenario.attach(new Gson().toJson(samples), "application/json", "Performance Metrics");
+        }
+    }
+
+    /**
+     * @return The budget of the scenario's @budget tag, or scenarioBudgetMs without one.
+     */
+    private long budgetOf(Scenario scenario) {
+        String tag = scenario.getSourceTagNames().stream()
+                .filter(name -> name.startsWith(BUDGET_TAG_PREFIX))
+                .findFirst()
+                .orElse(null);
+        if (tag == null) {
+            return PropertyFileReader.getIntProperty("scenarioBudgetMs", 0);
+        }
+        try {
+            return ScenarioDeadline.parse(tag.substring(BUDGET_TAG_PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Configuration error in tag " + tag + " of scenario '" + scenario.getName() + "': " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Attaches budget and elapsed time when the scenario ran out of its budget.
+     */
+    private void attachDeadlineTiming(Scenario scenario) {
+        if (ScenarioDeadline.isActive() && ScenarioDeadline.remainingMillis() <= 0) {
+            Map<String, Long> timing = Map.of("budgetMs", ScenarioDeadline.budgetMillis(), "elapsedMs", ScenarioDeadline.elapsedMillis());
+            logger.error("⏱️ Scenario {} exceeded its budget | {}", scenario.getName(), timing);
+            scenario.attach(new Gson().toJson(timing), "application/json", "Scenario Deadline");
+        }
+    }
 }
@@ -0,0 +1,94 @@
+package com.basesetup.playwright.plugins;
+
+import com.basesetup.playwright.utils.data.DataFeed;
+import com.google.gson.Gson;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.TestCase;
+import io.cucumber.plugin.event.TestCaseFinished;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cucumber plugin used by the data feed runner. Writes one result line per scenario and record to
+ * the results file opened with {@link #open(Path)}. Every batch run gets its own plugin instance,
+ * so the results file and counters are static.
+ */
+public class DataFeedResultPlugin implements ConcurrentEventListener {
+    private static final Gson gson = new Gson();
+    private static final LongAdder passed = new LongAdder();
+    private static final LongAdder failed = new LongAdder();
+    private static BufferedWriter results;
+    private static volatile Path dataFile;
+
+    /**
+     * Opens the NDJSON results file shared by all batch runs.
+     */
+    public static synchronized void open(Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        results = Files.newBufferedWriter(file);
+    }
+
+    /**
+     * Sets the data file whose records the following results belong to.
+     */
+    public static void setDataFile(Path file) {
+        dataFile = file;
+    }
+
+    public static synchronized void close() throws IOException {
+        if (results != null) {
+            results.close();
+            results = null;
+        }
+    }
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestCaseFinished.class, this::onScenarioFinished);
+    }
+
+    private void onScenarioFinished(TestCaseFinished event) {
+        TestCase testCase = event.getTestCase();
+        // Events are delivered on the worker thread, which holds the batch's records
+        DataFeed.DataRecord record = DataFeed.recordAt(Path.of(testCase.getUri()), testCase.getLocation().getLine());
+        boolean ok = event.getResult().getStatus().isOk();
+        (ok ? passed : failed).increment();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("dataFile", dataFile != null ? dataFile.toString().replace('\\', '/') : null);
+        result.put("record", record != null ? record.index() : -1);
+        result.put("scenario", testCase.getName());
+        result.put("status", event.getResult().getStatus().name().toLowerCase());
+        result.put("durationMs", event.getResult().getDuration().toMillis());
+        write(gson.toJson(result));
+    }
+
+    private static synchronized void write(String line) {
+        if (results == null) {
+            return;
+        }
+        try {
+            results.write(line);
+            results.newLine();
+            results.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write data feed result", e);
+        }
+    }
+
+    public static long getPassed() {
+        return passed.sum();
+    }
+
+    public static long getFailed() {
+        return failed.sum();
+    }
+}
@@ -0,0 +1,109 @@
+package com.basesetup.playwright.plugins;
+
+import com.basesetup.playwright.utils.metrics.LatencyHistogram;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.Status;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestCaseStarted;
+import io.cucumber.plugin.event.TestStepFinished;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cucumber plugin used by the load runner. Records step and scenario latencies of every
+ * virtual user into shared histograms and applies the configured think time between steps.
+ * Think time is taken out of the scenario latency, so the histogram only reflects time spent in
+ * the application. Each virtual user gets its own plugin instance, so the aggregates are static.
+ * Scenarios skipped because the load run is over (see {@link #isFinished()}) are not counted.
+ */
+public class LoadMetricsPlugin implements ConcurrentEventListener {
+    private static final Map<String, LatencyHistogram> stepLatencies = new ConcurrentHashMap<>();
+    private static final LatencyHistogram scenarioLatencies = new LatencyHistogram();
+    private static final LongAdder passedScenarios = new LongAdder();
+    private static final LongAdder failedScenarios = new LongAdder();
+    private static final LongAdder failedSteps = new LongAdder();
+    private static volatile long endsAt = Long.MAX_VALUE;
+
+    private final long thinkTimeMs = Long.getLong("load.thinkTimeMs", 0);
+    private long scenarioThinkTimeMs;
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestCaseStarted.class, event -> scenarioThinkTimeMs = 0);
+        publisher.registerHandlerFor(TestStepFinished.class, this::onStepFinished);
+        publisher.registerHandlerFor(TestCaseFinished.class, this::onScenarioFinished);
+    }
+
+    /**
+     * Sets when the load run ends; scenarios starting later are skipped by the hooks.
+     */
+    public static void setEndsAt(long epochMillis) {
+        endsAt = epochMillis;
+    }
+
+    /**
+     * @return true once the load run's steady state is over.
+     */
+    public static boolean isFinished() {
+        return System.currentTimeMillis() >= endsAt;
+    }
+
+    private void onStepFinished(TestStepFinished event) {
+        if (!(event.getTestStep() instanceof PickleStepTestStep step) || event.getResult().getStatus() == Status.SKIPPED) {
+            return;
+        }
+
+        stepLatencies.computeIfAbsent(step.getPattern(), key -> new LatencyHistogram())
+                .record(event.getResult().getDuration().toMillis());
+        if (event.getResult().getStatus() == Status.FAILED) {
+            failedSteps.increment();
+        }
+
+        // Events are delivered on the virtual user's thread, so sleeping here paces that user only
+        if (thinkTimeMs > 0) {
+            long start = System.nanoTime();
+            try {
+                Thread.sleep(thinkTimeMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            scenarioThinkTimeMs += (System.nanoTime() - start) / 1_000_000;
+        }
+    }
+
+    private void onScenarioFinished(TestCaseFinished event) {
+        if (event.getResult().getStatus() == Status.SKIPPED) {
+            return;
+        }
+        scenarioLatencies.record(Math.max(0, event.getResult().getDuration().toMillis() - scenarioThinkTimeMs));
+        if (event.getResult().getStatus().isOk()) {
+            passedScenarios.increment();
+        } else {
+            failedScenarios.increment();
+        }
+    }
+
+    public static Map<String, LatencyHistogram> getStepLatencies() {
+        return stepLatencies;
+    }
+
+    public static LatencyHistogram getScenarioLatencies() {
+        return scenarioLatencies;
+    }
+
+    public static long getPassedScenarios() {
+        return passedScenarios.sum();
+    }
+
+    public static long getFailedScenarios() {
+        return failedScenarios.sum();
+    }
+
+    public static long getFailedSteps() {
+        return failedSteps.sum();
+    }
+}
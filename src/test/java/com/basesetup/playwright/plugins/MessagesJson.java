@@ -0,0 +1,73 @@
+package com.basesetup.playwright.plugins;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.cucumber.messages.types.Envelope;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * Reads and writes Cucumber message envelopes as single-line JSON with Gson. Message enums are
+ * written by their wire value (e.g. "text/x.cucumber.gherkin+plain") rather than their constant
+ * name, so the output matches what Cucumber's own message plugin produces.
+ */
+public final class MessagesJson {
+    private static final Gson gson = new GsonBuilder().registerTypeAdapterFactory(new MessageEnumAdapterFactory()).create();
+
+    private MessagesJson() {
+    }
+
+    public static Envelope parse(String line) {
+        return gson.fromJson(line, Envelope.class);
+    }
+
+    public static void write(Writer writer, Envelope envelope) {
+        gson.toJson(envelope, writer);
+    }
+
+    /**
+     * Maps the enums of io.cucumber.messages.types to and from their toString() value.
+     */
+    private static final class MessageEnumAdapterFactory implements TypeAdapterFactory {
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            Class<? super T> raw = type.getRawType();
+            if (!raw.isEnum() || !raw.getPackageName().equals(Envelope.class.getPackageName())) {
+                return null;
+            }
+            Object[] constants = raw.getEnumConstants();
+            return (TypeAdapter<T>) new TypeAdapter<Object>() {
+                @Override
+                public void write(JsonWriter out, Object value) throws IOException {
+                    if (value == null) {
+                        out.nullValue();
+                    } else {
+                        out.value(value.toString());
+                    }
+                }
+
+                @Override
+                public Object read(JsonReader in) throws IOException {
+                    if (in.peek() == JsonToken.NULL) {
+                        in.nextNull();
+                        return null;
+                    }
+                    String value = in.nextString();
+                    return Arrays.stream(constants)
+                            .filter(constant -> constant.toString().equals(value) || ((Enum) constant).name().equals(value))
+                            .findFirst()
+                            .orElse(null);
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.basesetup.playwright.plugins;
+
+import com.basesetup.playwright.utils.metrics.LatencyHistogram;
+import com.google.gson.GsonBuilder;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.HookTestStep;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.TestCase;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestCaseStarted;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestStepFinished;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cucumber plugin that profiles where the run spends its time. Every step and hook duration is
+ * aggregated by step pattern (or hook method) into a histogram, and each scenario gets a timeline
+ * of its steps. At the end of the run step-profile.json and step-profile.html are written to the
+ * output directory, slowest total time first.
+ *
+ * <pre>
+ * plugin = "com.basesetup.playwright.plugins.StepTimingPlugin:target/step-profile"
+ * </pre>
+ */
+public class StepTimingPlugin implements ConcurrentEventListener {
+    private static final Logger logger = LoggerFactory.getLogger(StepTimingPlugin.class);
+    private static final int TOP_STEPS_LOGGED = 10;
+
+    private final Path outputDir;
+    private final Map<String, LatencyHistogram> durations = new ConcurrentHashMap<>();
+    private final Map<UUID, ScenarioTimeline> running = new ConcurrentHashMap<>();
+    private final List<ScenarioTimeline> finished = Collections.synchronizedList(new ArrayList<>());
+
+    /**
+     * One step or hook on a scenario timeline.
+     */
+    private record TimelineEntry(String label, String type, long offsetMs, long durationMs, String status) {
+    }
+
+    /**
+     * Steps of one scenario, with offsets from the scenario start.
+     */
+    private static final class ScenarioTimeline {
+        private final String name;
+        private final String location;
+        private final Instant startedAt;
+        private final List<TimelineEntry> steps = new ArrayList<>();
+        private long durationMs;
+        private String status;
+
+        private ScenarioTimeline(TestCase testCase, Instant startedAt) {
+            this.name = testCase.getName();
+            this.location = testCase.getUri() + ":" + testCase.getLocation().getLine();
+            this.startedAt = startedAt;
+        }
+    }
+
+    public StepTimingPlugin() {
+        this(new File("target/step-profile"));
+    }
+
+    public StepTimingPlugin(File outputDir) {
+        this.outputDir = outputDir.toPath();
+    }
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestCaseStarted.class, this::onScenarioStarted);
+        publisher.registerHandlerFor(TestStepFinished.class, this::onStepFinished);
+        publisher.registerHandlerFor(TestCaseFinished.class, this::onScenarioFinished);
+        publisher.registerHandlerFor(TestRunFinished.class, event -> writeProfile());
+    }
+
+    private void onScenarioStarted(TestCaseStarted event) {
+        running.put(event.getTestCase().getId(), new ScenarioTimeline(event.getTestCase(), event.getInstant()));
+    }
+
+    private void onStepFinished(TestStepFinished event) {
+        String key;
+        String label;
+        String type;
+        if (event.getTestStep() instanceof PickleStepTestStep step) {
+            // Aggregate per step definition, whichever Given/When/Then keyword used it; undefined steps by text
+            key = step.getPattern() != null ? step.getPattern() : step.getStep().getText();
+            label = step.getStep().getKeyword().trim() + " " + step.getStep().getText();
+            type = "step";
+        } else if (event.getTestStep() instanceof HookTestStep hook) {
+            key = hook.getHookType() + " " + hook.getCodeLocation();
+            label = key;
+            type = "hook";
+        } else {
+            return;
+        }
+
+        long durationMs = event.getResult().getDuration().toMillis();
+        durations.computeIfAbsent(key, k -> new LatencyHistogram()).record(durationMs);
+
+        ScenarioTimeline timeline = running.get(event.getTestCase().getId());
+        if (timeline != null) {
+            long offsetMs = event.getInstant().toEpochMilli() - durationMs - timeline.startedAt.toEpochMilli();
+            timeline.steps.add(new TimelineEntry(label, type, Math.max(0, offsetMs), durationMs, event.getResult().getStatus().name()));
+        }
+    }
+
+    private void onScenarioFinished(TestCaseFinished event) {
+        ScenarioTimeline timeline = running.remove(event.getTestCase().getId());
+        if (timeline != null) {
+            timeline.durationMs = event.getResult().getDuration().toMillis();
+            timeline.status = event.getResult().getStatus().name();
+            finished.add(timeline);
+        }
+    }
+
+    private List<Map<String, Object>> summarize() {
+        List<Map<String, Object>> steps = new ArrayList<>();
+        durations.forEach((label, histogram) -> {
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("step", label);
+            summary.put("count", histogram.getCount());
+            summary.put("totalMs", histogram.getTotal());
+            summary.put("meanMs", histogram.getMean());
+            summary.put("p50Ms", histogram.getPercentile(50));
+            summary.put("p90Ms", histogram.getPercentile(90));
+            summary.put("p95Ms", histogram.getPercentile(95));
+            summary.put("p99Ms", histogram.getPercentile(99));
+            summary.put("maxMs", histogram.getMax());
+            steps.add(summary);
+        });
+        steps.sort(Comparator.comparingLong((Map<String, Object> summary) -> (long) summary.get("totalMs")).reversed());
+        return steps;
+    }
+
+    private void writeProfile() {
+        List<Map<String, Object>> steps = summarize();
+        List<ScenarioTimeline> scenarios;
+        synchronized (finished) {
+            scenarios = List.copyOf(finished);
+        }
+
+        steps.stream().limit(TOP_STEPS_LOGGED).forEach(summary ->
+                logger.info("🐢 {} ms total | count={} | p50={} ms | p95={} ms | {}",
+                        summary.get("totalMs"), summary.get("count"), summary.get("p50Ms"), summary.get("p95Ms"), summary.get("step")));
+
+        try {
+            Files.createDirectories(outputDir);
+            Map<String, Object> profile = new LinkedHashMap<>();
+            profile.put("steps", steps);
+            profile.put("scenarios", scenarios.stream().map(this::toJson).toList());
+            Files.writeString(outputDir.resolve("step-profile.json"), new GsonBuilder().setPrettyPrinting().create().toJson(profile));
+            Files.writeString(outputDir.resolve("step-profile.html"), toHtml(steps, scenarios));
+            logger.info("📝 Step profile written to {}", outputDir.toAbsolutePath());
+        } catch (IOException e) {
+            logger.error("❌ Failed to write step profile: {}", e.getMessage(), e);
+        }
+    }
+
+    private Map<String, Object> toJson(ScenarioTimeline timeline) {
+        Map<String, Object> scenario = new LinkedHashMap<>();
+        scenario.put("name", timeline.name);
+        scenario.put("location", timeline.location);
+        scenario.put("status", timeline.status);
+        scenario.put("durationMs", timeline.durationMs);
+        scenario.put("timeline", timeline.steps);
+        return scenario;
+    }
+
+    private static String toHtml(List<Map<String, Object>> steps, List<ScenarioTimeline> scenarios) {
+        StringBuilder html = new StringBuilder("""
+                <!DOCTYPE html><html><head><meta charset="utf-8"><title>Step profile</title><style>
+                body{font-family:sans-serif;margin:2em}table{border-collapse:collapse}td,th{border:1px solid #ccc;padding:4px 8px;text-align:right}
+                td:first-child,th:first-child{text-align:left}.lane{position:relative;height:18px;background:#f3f3f3;margin:2px 0}
+                .bar{position:absolute;height:18px;background:#4a90d9;opacity:.8}.hook{background:#9b9b9b}.FAILED{background:#d0021b}
+                </style></head><body><h1>Slowest steps</h1><table>
+                <tr><th>Step / hook</th><th>Total ms</th><th>Count</th><th>Mean</th><th>p50</th><th>p90</th><th>p95</th><th>p99</th><th>Max</th></tr>
+                """);
+        for (Map<String, Object> step : steps) {
+            html.append("<tr><td>").append(escape((String) step.get("step"))).append("</td>");
+            for (String key : List.of("totalMs", "count", "meanMs", "p50Ms", "p90Ms", "p95Ms", "p99Ms", "maxMs")) {
+                Object value = step.get(key);
+                html.append("<td>").append(value instanceof Double d ? String.format(Locale.ROOT, "%.1f", d) : value).append("</td>");
+            }
+            html.append("</tr>\n");
+        }
+        html.append("</table><h1>Scenario timelines</h1>\n");
+        for (ScenarioTimeline scenario : scenarios) {
+            html.append("<h3>").append(escape(scenario.name)).append(" <small>").append(escape(scenario.location))
+                    .append(" | ").append(scenario.status).append(" | ").append(scenario.durationMs).append(" ms</small></h3>\n");
+            double total = Math.max(1, scenario.durationMs);
+            for (TimelineEntry entry : scenario.steps) {
+                html.append(String.format(Locale.ROOT,
+                        "<div class=\"lane\" title=\"%s: %d ms\"><div class=\"bar %s %s\" style=\"left:%.2f%%;width:%.2f%%\"></div></div>\n",
+                        escape(entry.label()), entry.durationMs(), entry.type(), entry.status(),
+                        100 * entry.offsetMs() / total, Math.max(0.2, 100 * entry.durationMs() / total)));
+            }
+        }
+        return html.append("</body></html>\n").toString();
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+}
@@ -0,0 +1,70 @@
+package com.basesetup.playwright.plugins;
+
+import io.cucumber.htmlformatter.MessagesToHtmlWriter;
+import io.cucumber.junitxmlformatter.MessagesToJunitXmlWriter;
+import io.cucumber.messages.types.Envelope;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Converts a report written by {@link StreamingReportPlugin} into the HTML report, and optionally the
+ * JUnit XML report, reading the stream one line at a time. Write the HTML next to the stream so the
+ * relative links to externalized attachments keep working.
+ * <p>
+ * The JUnit XML is opt-in (report.junit): Cucumber's JUnit XML writer keeps every message in memory
+ * until the end of the stream, so its memory grows with the suite, unlike the HTML conversion.
+ *
+ * <pre>
+ * mvn -Preport test-compile exec:java -Dreport.input=target/cucumber-report.ndjson -Dreport.junit=target/cucumber-reports.xml
+ * </pre>
+ */
+public class StreamingReportConverter {
+    private static final Logger logger = LoggerFactory.getLogger(StreamingReportConverter.class);
+
+    public static void main(String[] args) throws IOException {
+        Path input = Path.of(System.getProperty("report.input", "target/cucumber-report.ndjson"));
+        Path html = Path.of(System.getProperty("report.html", "target/cucumber-reports.html"));
+        String junit = System.getProperty("report.junit");
+        convert(input, html, junit == null || junit.isBlank() ? null : Path.of(junit));
+    }
+
+    /**
+     * @param input NDJSON message stream.
+     * @param html  HTML report to write.
+     * @param junit JUnit XML report to write, or null to skip it. Holds the whole run in memory.
+     */
+    public static void convert(Path input, Path html, Path junit) throws IOException {
+        long start = System.currentTimeMillis();
+        long envelopes = 0;
+        Files.createDirectories(html.toAbsolutePath().getParent());
+        if (junit != null) {
+            Files.createDirectories(junit.toAbsolutePath().getParent());
+        }
+        try (BufferedReader reader = Files.newBufferedReader(input);
+             OutputStream htmlOut = Files.newOutputStream(html);
+             OutputStream junitOut = junit != null ? Files.newOutputStream(junit) : OutputStream.nullOutputStream();
+             MessagesToHtmlWriter htmlWriter = new MessagesToHtmlWriter(htmlOut, MessagesJson::write);
+             MessagesToJunitXmlWriter junitWriter = junit != null ? new MessagesToJunitXmlWriter(junitOut) : null) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                Envelope envelope = MessagesJson.parse(line);
+                htmlWriter.write(envelope);
+                if (junitWriter != null) {
+                    junitWriter.write(envelope);
+                }
+                envelopes++;
+            }
+        }
+        logger.info("📝 Converted {} message(s) from {} into {}{} in {} ms",
+                envelopes, input, html, junit != null ? " and " + junit : "", System.currentTimeMillis() - start);
+    }
+}
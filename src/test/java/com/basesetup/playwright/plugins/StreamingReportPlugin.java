@@ -0,0 +1,116 @@
+package com.basesetup.playwright.plugins;
+
+import com.basesetup.playwright.utils.config.PropertyFileReader;
+import io.cucumber.messages.types.Attachment;
+import io.cucumber.messages.types.AttachmentContentEncoding;
+import io.cucumber.messages.types.Envelope;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Map;
+
+/**
+ * Cucumber plugin that streams the run as NDJSON Cucumber messages, one envelope per line, as the
+ * events happen. Unlike the json plugin nothing is kept in memory, so memory stays flat however
+ * large the suite. Attachments larger than streamingReportInlineBytes (default 1024) are written once per
+ * content hash to an attachments/ directory next to the report, and the envelope carries a relative
+ * url instead of the body. Convert the stream with {@link StreamingReportConverter}.
+ *
+ * <pre>
+ * plugin = "com.basesetup.playwright.plugins.StreamingReportPlugin:target/cucumber-report.ndjson"
+ * </pre>
+ */
+public class StreamingReportPlugin implements ConcurrentEventListener {
+    private static final Logger logger = LoggerFactory.getLogger(StreamingReportPlugin.class);
+    private static final Map<String, String> EXTENSIONS = Map.of(
+            "image/png", ".png", "image/jpeg", ".jpg", "application/json", ".json", "text/plain", ".txt",
+            "text/html", ".html", "application/zip", ".zip", "video/webm", ".webm");
+
+    private final Path reportFile;
+    private final Path attachmentsDir;
+    private final int inlineBytes = PropertyFileReader.getIntProperty("streamingReportInlineBytes", 1024);
+    private BufferedWriter writer;
+
+    public StreamingReportPlugin() {
+        this(new File("target/cucumber-report.ndjson"));
+    }
+
+    public StreamingReportPlugin(File reportFile) {
+        this.reportFile = reportFile.toPath();
+        this.attachmentsDir = this.reportFile.toAbsolutePath().getParent().resolve("attachments");
+    }
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(Envelope.class, this::write);
+    }
+
+    private synchronized void write(Envelope envelope) {
+        try {
+            if (writer == null) {
+                Files.createDirectories(reportFile.toAbsolutePath().getParent());
+                writer = Files.newBufferedWriter(reportFile, StandardCharsets.UTF_8);
+            }
+            Envelope streamed = envelope.getAttachment().map(this::externalize).map(Envelope::of).orElse(envelope);
+            MessagesJson.write(writer, streamed);
+            writer.newLine();
+            writer.flush(); // Readable while the run is still going, and complete up to the last event on a crash
+
+            if (envelope.getTestRunFinished().isPresent()) {
+                writer.close();
+                writer = null;
+                logger.info("📝 Streaming report written to {}", reportFile.toAbsolutePath());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write streaming report " + reportFile, e);
+        }
+    }
+
+    /**
+     * Moves a large attachment body to a file, returning the attachment with a url in its place.
+     */
+    private Attachment externalize(Attachment attachment) {
+        byte[] content = attachment.getContentEncoding() == AttachmentContentEncoding.BASE64
+                ? Base64.getDecoder().decode(attachment.getBody())
+                : attachment.getBody().getBytes(StandardCharsets.UTF_8);
+        if (content.length <= inlineBytes) {
+            return attachment;
+        }
+
+        String name = sha256(content) + EXTENSIONS.getOrDefault(attachment.getMediaType(), ".bin");
+        try {
+            Path file = attachmentsDir.resolve(name);
+            if (!Files.exists(file)) {
+                Files.createDirectories(attachmentsDir);
+                Files.write(file, content);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write attachment " + name, e);
+        }
+
+        return new Attachment("", AttachmentContentEncoding.IDENTITY, attachment.getFileName().orElse(null),
+                attachment.getMediaType(), attachment.getSource().orElse(null), attachment.getTestCaseStartedId().orElse(null),
+                attachment.getTestStepId().orElse(null), attachmentsDir.getFileName() + "/" + name);
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
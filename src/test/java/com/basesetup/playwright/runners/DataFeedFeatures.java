@@ -0,0 +1,219 @@
+package com.basesetup.playwright.runners;
+
+import com.basesetup.playwright.runners.distributed.ScenarioDiscovery;
+import com.basesetup.playwright.utils.data.DataFeed;
+import io.cucumber.gherkin.GherkinDialectProvider;
+import io.cucumber.messages.types.Feature;
+import io.cucumber.messages.types.FeatureChild;
+import io.cucumber.messages.types.GherkinDocument;
+import io.cucumber.messages.types.Location;
+import io.cucumber.messages.types.Pickle;
+import io.cucumber.messages.types.PickleTag;
+import io.cucumber.messages.types.RuleChild;
+import io.cucumber.messages.types.Scenario;
+import io.cucumber.messages.types.Tag;
+import io.cucumber.tagexpressions.Expression;
+import io.cucumber.tagexpressions.TagExpressionParser;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Turns the data feed scenarios into generated examples, so one Cucumber run covers a whole batch
+ * of records instead of bootstrapping Cucumber once per record. Matching scenarios get an Examples
+ * table with one row per record of the batch; the record of each row is bound by its line.
+ * The feature files are parsed once with the Gherkin parser, only the examples change between batches.
+ * A scenario reads the data file named by its {@value #DATA_FILE_TAG_PREFIX}&lt;path&gt; tag (the
+ * innermost one wins), or the default data file without one.
+ */
+final class DataFeedFeatures {
+    static final String DATA_FILE_TAG_PREFIX = "@datafeed:";
+    private static final GherkinDialectProvider dialects = new GherkinDialectProvider();
+
+    /**
+     * One matching scenario.
+     *
+     * @param first    First line, tags included.
+     * @param start    Line of the scenario keyword.
+     * @param end      Last line with content.
+     * @param dataFile Data file the scenario reads.
+     */
+    private record Block(int first, int start, int end, Path dataFile) {
+    }
+
+    /**
+     * A feature file with its matching scenarios.
+     *
+     * @param examplesKeyword Examples keyword in the feature's language.
+     */
+    private record Template(Path source, List<String> lines, String examplesKeyword, List<Block> blocks) {
+    }
+
+    private final List<Template> templates;
+
+    private DataFeedFeatures(List<Template> templates) {
+        this.templates = templates;
+    }
+
+    /**
+     * @param root            Feature file or directory.
+     * @param tags            Cucumber tag expression selecting the data feed scenarios.
+     * @param defaultDataFile Data file of scenarios without a data file tag.
+     */
+    static DataFeedFeatures scan(Path root, String tags, Path defaultDataFile) throws IOException {
+        Expression filter = TagExpressionParser.parse(tags);
+        List<Template> templates = new ArrayList<>();
+        for (ScenarioDiscovery.FeatureFile feature : ScenarioDiscovery.parse(root)) {
+            Template template = template(feature, filter, defaultDataFile);
+            if (!template.blocks().isEmpty()) {
+                templates.add(template);
+            }
+        }
+        return new DataFeedFeatures(templates);
+    }
+
+    private static Template template(ScenarioDiscovery.FeatureFile feature, Expression filter, Path defaultDataFile) throws IOException {
+        List<String> lines = Files.readAllLines(feature.file());
+        TreeSet<Integer> blockStarts = blockStarts(feature.document());
+        List<Block> blocks = new ArrayList<>();
+        for (Pickle pickle : feature.pickles()) {
+            if (!ScenarioDiscovery.matches(pickle, filter)) {
+                continue;
+            }
+            Scenario scenario = feature.scenario(pickle);
+            int start = scenario.getLocation().getLine().intValue() - 1;
+            if (!scenario.getExamples().isEmpty()) {
+                throw new IllegalArgumentException("Scenario Outlines and scenarios with Examples are not supported in data feed mode: "
+                        + feature.file() + ":" + (start + 1));
+            }
+            Integer next = blockStarts.higher(start);
+            Path dataFile = pickle.getTags().stream()
+                    .map(PickleTag::getName)
+                    .filter(tag -> tag.startsWith(DATA_FILE_TAG_PREFIX))
+                    .reduce((outer, inner) -> inner) // Feature, rule, then scenario tags
+                    .map(tag -> Path.of(tag.substring(DATA_FILE_TAG_PREFIX.length())))
+                    .orElse(defaultDataFile);
+            blocks.add(new Block(firstLine(scenario.getLocation(), scenario.getTags()), start,
+                    lastContentLine(lines, start, next != null ? next : lines.size()), dataFile));
+        }
+
+        String language = feature.document().getFeature().map(Feature::getLanguage).orElse("en");
+        String examplesKeyword = dialects.getDialect(language).orElse(dialects.getDefaultDialect()).getExamplesKeywords().get(0);
+        return new Template(feature.file(), lines, examplesKeyword, blocks);
+    }
+
+    /**
+     * @return 0-based first lines (tags included) of every scenario and rule, where the previous block ends.
+     */
+    private static TreeSet<Integer> blockStarts(GherkinDocument document) {
+        TreeSet<Integer> starts = new TreeSet<>();
+        document.getFeature().ifPresent(feature -> {
+            for (FeatureChild child : feature.getChildren()) {
+                child.getScenario().ifPresent(scenario -> starts.add(firstLine(scenario.getLocation(), scenario.getTags())));
+                child.getRule().ifPresent(rule -> {
+                    starts.add(firstLine(rule.getLocation(), rule.getTags()));
+                    for (RuleChild ruleChild : rule.getChildren()) {
+                        ruleChild.getScenario().ifPresent(scenario -> starts.add(firstLine(scenario.getLocation(), scenario.getTags())));
+                    }
+                });
+            }
+        });
+        return starts;
+    }
+
+    private static int firstLine(Location location, List<Tag> tags) {
+        long line = location.getLine();
+        for (Tag tag : tags) {
+            line = Math.min(line, tag.getLocation().getLine());
+        }
+        return (int) line - 1;
+    }
+
+    private static int lastContentLine(List<String> lines, int from, int to) {
+        int last = from;
+        for (int i = from; i < to; i++) {
+            String line = lines.get(i).trim();
+            if (!line.isEmpty() && !line.startsWith("#")) {
+                last = i;
+            }
+        }
+        return last;
+    }
+
+    boolean isEmpty() {
+        return templates.isEmpty();
+    }
+
+    /**
+     * @return The data files the matching scenarios read, in feature file order.
+     */
+    Set<Path> dataFiles() {
+        Set<Path> dataFiles = new LinkedHashSet<>();
+        templates.forEach(template -> template.blocks().forEach(block -> dataFiles.add(block.dataFile())));
+        return dataFiles;
+    }
+
+    /**
+     * Writes the feature files with the batch as examples into a directory, replacing earlier batches.
+     * Only the scenarios reading the given data file are kept; the other matching scenarios are left out.
+     *
+     * @param dir      Output directory, owned by one worker and data file.
+     * @param dataFile Data file the batch was read from.
+     * @param batch    Records to generate examples for.
+     * @return Records by scenario location, for {@link DataFeed#bindRecords(Map)}.
+     */
+    Map<String, DataFeed.DataRecord> write(Path dir, Path dataFile, List<DataFeed.DataRecord> batch) throws IOException {
+        Files.createDirectories(dir);
+        Map<String, DataFeed.DataRecord> recordsByLocation = new HashMap<>();
+        for (int t = 0; t < templates.size(); t++) {
+            Template template = templates.get(t);
+            if (template.blocks().stream().noneMatch(block -> block.dataFile().equals(dataFile))) {
+                continue;
+            }
+            Path target = dir.resolve(t + "-" + template.source().getFileName());
+            List<String> out = new ArrayList<>();
+            Iterator<Block> blocks = template.blocks().iterator();
+            Block block = blocks.hasNext() ? blocks.next() : null;
+            for (int i = 0; i < template.lines().size(); i++) {
+                String line = template.lines().get(i);
+                boolean included = block == null || block.dataFile().equals(dataFile);
+                if (included || i < block.first()) { // Lines of a scenario reading another data file are left out
+                    out.add(block != null && block.start() == i ? line + " (record <record>)" : line);
+                }
+
+                if (block != null && block.end() == i) {
+                    if (included) {
+                        String indent = " ".repeat(indentOf(template.lines().get(block.start())) + 2);
+                        out.add("");
+                        out.add(indent + template.examplesKeyword() + ":");
+                        out.add(indent + "  | record |");
+                        for (DataFeed.DataRecord record : batch) {
+                            out.add(indent + "  | " + record.index() + " |");
+                            recordsByLocation.put(DataFeed.location(target, out.size()), record);
+                        }
+                    }
+                    block = blocks.hasNext() ? blocks.next() : null;
+                }
+            }
+            Files.write(target, out);
+        }
+        return recordsByLocation;
+    }
+
+    private static int indentOf(String line) {
+        int indent = 0;
+        while (indent < line.length() && Character.isWhitespace(line.charAt(indent))) {
+            indent++;
+        }
+        return indent;
+    }
+}
@@ -0,0 +1,114 @@
+package com.basesetup.playwright.runners;
+
+import com.basesetup.playwright.plugins.DataFeedResultPlugin;
+import com.basesetup.playwright.utils.data.DataFeed;
+import com.basesetup.playwright.utils.managers.PlaywrightManager;
+import io.cucumber.core.cli.Main;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Data-driven mode: runs the @datafeed scenarios once per record of a CSV/JSONL file. A scenario
+ * names its file with an additional @datafeed:&lt;path&gt; tag on the scenario, rule or feature;
+ * without one it reads datafeed.file. Each data file is run in turn with the scenarios that read it.
+ * Records are streamed and pulled in batches of datafeed.batchSize by a pool of worker threads.
+ * Each batch becomes generated Examples rows (see {@link DataFeedFeatures}) and runs in a single
+ * Cucumber run, so the glue scan and feature parsing are paid once per batch, not once per record.
+ * Separate JVMs or CI jobs split the files with -Ddatafeed.shard=index/count.
+ *
+ * <pre>
+ * mvn -Pdatafeed test-compile exec:java -Ddatafeed.file=src/test/resources/data/login-users.csv -Ddatafeed.threads=4 -Ddatafeed.shard=0/2
+ * </pre>
+ */
+public class DataFeedRunner {
+    private static final Logger logger = LoggerFactory.getLogger(DataFeedRunner.class);
+    private static final Path RESULTS_FILE = Path.of("target/datafeed-results.ndjson");
+    private static final Path GENERATED_DIR = Path.of("target/datafeed");
+
+    public static void main(String[] args) throws Exception {
+        Path defaultFile = Path.of(System.getProperty("datafeed.file", "src/test/resources/data/login-users.csv"));
+        Path feature = Path.of(System.getProperty("datafeed.feature", "src/test/resources/features"));
+        String tags = System.getProperty("datafeed.tags", "@datafeed");
+        int threads = Integer.getInteger("datafeed.threads", 1);
+        int batchSize = Integer.getInteger("datafeed.batchSize", 100);
+        String[] shard = System.getProperty("datafeed.shard", "0/1").split("/");
+
+        DataFeedFeatures features = DataFeedFeatures.scan(feature, tags, defaultFile);
+        if (features.isEmpty()) {
+            logger.warn("⚠️ No scenarios match {} under {}", tags, feature);
+            return;
+        }
+
+        System.setProperty("cucumber.publish.quiet", "true");
+        DataFeedResultPlugin.open(RESULTS_FILE);
+        try {
+            int fileIndex = 0;
+            for (Path file : features.dataFiles()) {
+                Path fileDir = GENERATED_DIR.resolve(fileIndex++ + "-" + file.getFileName()); // Only this file's scenarios are generated here
+                DataFeedResultPlugin.setDataFile(file);
+                try (DataFeed feed = new DataFeed(file, Integer.parseInt(shard[0]), Integer.parseInt(shard[1]))) {
+                    ExecutorService workers = Executors.newFixedThreadPool(threads);
+                    for (int worker = 0; worker < threads; worker++) {
+                        Path dir = fileDir.resolve("worker-" + worker);
+                        workers.submit(() -> runWorker(feed, file, features, batchSize, dir, tags));
+                    }
+                    workers.shutdown();
+                    workers.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+                }
+            }
+        } finally {
+            DataFeedResultPlugin.close();
+        }
+
+        logger.info("📊 Data feed run finished | Passed: {} | Failed: {} | Results: {}",
+                DataFeedResultPlugin.getPassed(), DataFeedResultPlugin.getFailed(), RESULTS_FILE.toAbsolutePath());
+        if (DataFeedResultPlugin.getFailed() > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static void runWorker(DataFeed feed, Path file, DataFeedFeatures features, int batchSize, Path dir, String tags) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        String[] runArgs = {
+                "--glue", "com.basesetup.playwright.stepdefinitions",
+                "--glue", "com.basesetup.playwright.hooks",
+                "--plugin", DataFeedResultPlugin.class.getName(),
+                "--tags", tags,
+                "--monochrome",
+                dir.toString()
+        };
+        try {
+            List<DataFeed.DataRecord> batch;
+            while (!(batch = nextBatch(feed, batchSize)).isEmpty()) {
+                DataFeed.bindRecords(features.write(dir, file, batch));
+                long start = System.currentTimeMillis();
+                boolean ok = Main.run(runArgs, classLoader) == 0;
+                logger.info("{} {} records {}..{} ({}) finished in {} ms", ok ? "✅" : "❌", file.getFileName(),
+                        batch.get(0).index(), batch.get(batch.size() - 1).index(), batch.size(), System.currentTimeMillis() - start);
+            }
+        } catch (Exception e) {
+            logger.error("❌ Data feed worker aborted: {}", e.getMessage(), e);
+        } finally {
+            DataFeed.bindRecords(null);
+            DataFeed.setCurrentRecord(null);
+            PlaywrightManager.closeBrowser();
+        }
+    }
+
+    private static List<DataFeed.DataRecord> nextBatch(DataFeed feed, int batchSize) {
+        List<DataFeed.DataRecord> batch = new ArrayList<>(batchSize);
+        Optional<DataFeed.DataRecord> record;
+        while (batch.size() < batchSize && (record = feed.next()).isPresent()) {
+            batch.add(record.get());
+        }
+        return batch;
+    }
+}
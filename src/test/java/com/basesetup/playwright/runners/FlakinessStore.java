@@ -0,0 +1,72 @@
+package com.basesetup.playwright.runners;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Per-scenario outcome history kept across runs in a local JSON file. Each scenario keeps its last
+ * window outcomes; its flake rate is the share of runs that only passed after a retry. A scenario
+ * with at least minRuns recorded runs and a flake rate at or above the threshold is quarantined, and
+ * leaves quarantine again once enough clean runs push the rate back down. Scenarios are keyed by
+ * their pickle location, so every example of an outline has a history of its own.
+ */
+final class FlakinessStore {
+    private static final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+
+    enum Outcome { PASSED, FLAKY, FAILED }
+
+    private final Path file;
+    private final int window;
+    private final int minRuns;
+    private final double threshold;
+    private final Map<String, List<Outcome>> history = new TreeMap<>();
+
+    FlakinessStore(Path file, int window, int minRuns, double threshold) throws IOException {
+        this.file = file;
+        this.window = window;
+        this.minRuns = minRuns;
+        this.threshold = threshold;
+        if (Files.exists(file)) {
+            Map<String, List<Outcome>> stored = gson.fromJson(Files.readString(file), new TypeToken<TreeMap<String, List<Outcome>>>() {
+            }.getType());
+            if (stored != null) {
+                history.putAll(stored);
+            }
+        }
+    }
+
+    synchronized void record(String scenario, Outcome outcome) {
+        List<Outcome> outcomes = history.computeIfAbsent(scenario, key -> new ArrayList<>());
+        outcomes.add(outcome);
+        if (outcomes.size() > window) {
+            outcomes.subList(0, outcomes.size() - window).clear();
+        }
+    }
+
+    synchronized double flakeRate(String scenario) {
+        List<Outcome> outcomes = history.getOrDefault(scenario, List.of());
+        return outcomes.isEmpty() ? 0 : (double) outcomes.stream().filter(outcome -> outcome == Outcome.FLAKY).count() / outcomes.size();
+    }
+
+    synchronized boolean isQuarantined(String scenario) {
+        return history.getOrDefault(scenario, List.of()).size() >= minRuns && flakeRate(scenario) >= threshold;
+    }
+
+    synchronized void save() throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, "flakiness", ".tmp");
+        Files.writeString(temp, gson.toJson(history));
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
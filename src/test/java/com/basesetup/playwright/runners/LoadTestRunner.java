@@ -0,0 +1,183 @@
+package com.basesetup.playwright.runners;
+
+import com.basesetup.playwright.plugins.LoadMetricsPlugin;
+import com.basesetup.playwright.support.FixtureServer;
+import com.basesetup.playwright.utils.managers.PlaywrightManager;
+import com.basesetup.playwright.utils.metrics.LatencyHistogram;
+import com.google.gson.GsonBuilder;
+import io.cucumber.core.cli.Main;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Load-generation mode: replays a feature as N concurrent headless virtual users.
+ * Each virtual user runs the feature in a loop on its own thread (and therefore its own browser),
+ * with a linear ramp-up followed by a steady-state phase. Every virtual user gets load.iterationsPerRun
+ * copies of the feature, so Cucumber bootstraps once for all of them instead of once per iteration;
+ * copies that would start after the steady state are skipped.
+ *
+ * <pre>
+ * mvn -Pload test-compile exec:java -Dload.users=10 -Dload.rampUpSeconds=10 -Dload.durationSeconds=60 -Dload.stub=true
+ * </pre>
+ */
+public class LoadTestRunner {
+    private static final Logger logger = LoggerFactory.getLogger(LoadTestRunner.class);
+    private static final Path STUB_FIXTURES = Path.of("src/test/resources/fixtures/saucedemo");
+    private static final Path REPORT_FILE = Path.of("target/load-report.json");
+    private static final Path GENERATED_DIR = Path.of("target/load");
+
+    private static final LongAdder cucumberRuns = new LongAdder();
+
+    public static void main(String[] args) throws Exception {
+        String feature = System.getProperty("load.feature", "src/test/resources/features/Login.feature");
+        String tags = System.getProperty("load.tags");
+        int users = Integer.getInteger("load.users", 5);
+        long rampUpMs = TimeUnit.SECONDS.toMillis(Long.getLong("load.rampUpSeconds", 10));
+        long steadyStateMs = TimeUnit.SECONDS.toMillis(Long.getLong("load.durationSeconds", 60));
+        boolean stub = Boolean.getBoolean("load.stub");
+        int iterationsPerRun = Integer.getInteger("load.iterationsPerRun", 100);
+
+        System.setProperty("cucumber.publish.quiet", "true");
+        FixtureServer server = null;
+        if (stub) {
+            server = new FixtureServer(STUB_FIXTURES, users);
+            System.setProperty("baseUrl", server.getBaseUrl());
+        }
+
+        List<String> cucumberArgs = new ArrayList<>(List.of(
+                "--glue", "com.basesetup.playwright.stepdefinitions",
+                "--glue", "com.basesetup.playwright.hooks",
+                "--plugin", LoadMetricsPlugin.class.getName(),
+                "--monochrome"));
+        if (tags != null && !tags.isEmpty()) {
+            cucumberArgs.addAll(List.of("--tags", tags));
+        }
+        List<String> featureLines = Files.readAllLines(Path.of(feature));
+
+        logger.info("📈 Load run | Feature: {} | Users: {} | Ramp-up: {} ms | Steady state: {} ms | Think time: {} ms",
+                feature, users, rampUpMs, steadyStateMs, Long.getLong("load.thinkTimeMs", 0));
+
+        long startedAt = System.currentTimeMillis();
+        long endsAt = startedAt + rampUpMs + steadyStateMs;
+        LoadMetricsPlugin.setEndsAt(endsAt);
+        ExecutorService virtualUsers = Executors.newFixedThreadPool(users);
+        try {
+            for (int user = 0; user < users; user++) {
+                long startAt = startedAt + rampUpMs * user / users;
+                int userId = user + 1;
+                Path dir = writeCopies(GENERATED_DIR.resolve("vu-" + userId), Path.of(feature).getFileName().toString(), featureLines, iterationsPerRun);
+                List<String> userArgs = new ArrayList<>(cucumberArgs);
+                userArgs.add(dir.toString());
+                virtualUsers.submit(() -> runVirtualUser(userId, startAt, endsAt, userArgs.toArray(String[]::new)));
+            }
+            virtualUsers.shutdown();
+            virtualUsers.awaitTermination(rampUpMs + steadyStateMs + TimeUnit.MINUTES.toMillis(5), TimeUnit.MILLISECONDS);
+        } finally {
+            virtualUsers.shutdownNow();
+            if (server != null) {
+                server.close();
+            }
+        }
+
+        writeReport(System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * Writes the feature the given number of times into a directory of its own. Cucumber keeps
+     * every file as a separate feature, so one run repeats the journey that many times.
+     */
+    private static Path writeCopies(Path dir, String name, List<String> lines, int copies) throws IOException {
+        Files.createDirectories(dir);
+        for (int copy = 0; copy < copies; copy++) {
+            Files.write(dir.resolve(copy + "-" + name), lines);
+        }
+        return dir;
+    }
+
+    /**
+     * Runs the copies of the feature until the end of the steady-state phase; a further run only
+     * starts if one run's copies did not last that long.
+     */
+    private static void runVirtualUser(int userId, long startAt, long endsAt, String[] runArgs) {
+        Thread.currentThread().setName("vu-" + userId);
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        try {
+            long delay = startAt - System.currentTimeMillis();
+            if (delay > 0) {
+                Thread.sleep(delay);
+            }
+            logger.info("👤 Virtual user {} started", userId);
+
+            while (System.currentTimeMillis() < endsAt && !Thread.currentThread().isInterrupted()) {
+                Main.run(runArgs, classLoader);
+                cucumberRuns.increment();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            logger.error("❌ Virtual user {} aborted: {}", userId, e.getMessage(), e);
+        } finally {
+            PlaywrightManager.closeBrowser();
+            logger.info("👤 Virtual user {} finished", userId);
+        }
+    }
+
+    /**
+     * Logs throughput and latency percentiles and writes them to target/load-report.json.
+     */
+    private static void writeReport(long elapsedMs) throws IOException {
+        double elapsedSeconds = elapsedMs / 1000.0;
+        long scenarios = LoadMetricsPlugin.getPassedScenarios() + LoadMetricsPlugin.getFailedScenarios();
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("elapsedMs", elapsedMs);
+        report.put("cucumberRuns", cucumberRuns.sum());
+        report.put("scenarios", scenarios);
+        report.put("failedScenarios", LoadMetricsPlugin.getFailedScenarios());
+        report.put("failedSteps", LoadMetricsPlugin.getFailedSteps());
+        report.put("scenariosPerSecond", scenarios / elapsedSeconds);
+        report.put("scenarioLatency", summarize(LoadMetricsPlugin.getScenarioLatencies(), elapsedSeconds));
+
+        Map<String, Object> steps = new LinkedHashMap<>();
+        LoadMetricsPlugin.getStepLatencies().forEach((pattern, histogram) -> steps.put(pattern, summarize(histogram, elapsedSeconds)));
+        report.put("steps", steps);
+
+        logger.info("📊 Load run finished in {} s | Scenarios: {} ({} failed) | Throughput: {} scenarios/s",
+                String.format("%.1f", elapsedSeconds), scenarios, LoadMetricsPlugin.getFailedScenarios(),
+                String.format("%.2f", scenarios / elapsedSeconds));
+        LoadMetricsPlugin.getStepLatencies().forEach((pattern, histogram) ->
+                logger.info("⏱️ {} | count={} | rps={} | p50={} ms | p90={} ms | p95={} ms | p99={} ms | max={} ms",
+                        pattern, histogram.getCount(), String.format("%.2f", histogram.getCount() / elapsedSeconds),
+                        histogram.getPercentile(50), histogram.getPercentile(90), histogram.getPercentile(95),
+                        histogram.getPercentile(99), histogram.getMax()));
+
+        Files.createDirectories(REPORT_FILE.getParent());
+        Files.writeString(REPORT_FILE, new GsonBuilder().setPrettyPrinting().create().toJson(report));
+        logger.info("📝 Load report written to {}", REPORT_FILE.toAbsolutePath());
+    }
+
+    private static Map<String, Object> summarize(LatencyHistogram histogram, double elapsedSeconds) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", histogram.getCount());
+        summary.put("perSecond", histogram.getCount() / elapsedSeconds);
+        summary.put("meanMs", histogram.getMean());
+        summary.put("p50Ms", histogram.getPercentile(50));
+        summary.put("p90Ms", histogram.getPercentile(90));
+        summary.put("p95Ms", histogram.getPercentile(95));
+        summary.put("p99Ms", histogram.getPercentile(99));
+        summary.put("maxMs", histogram.getMax());
+        return summary;
+    }
+}
@@ -0,0 +1,168 @@
+package com.basesetup.playwright.runners;
+
+import com.basesetup.playwright.runners.distributed.ReportMerger;
+import com.basesetup.playwright.runners.distributed.ScenarioDiscovery;
+import com.basesetup.playwright.utils.managers.PlaywrightManager;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.cucumber.core.cli.Main;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cross-browser matrix mode: runs every scenario on each of matrix.browsers at the same time.
+ * Each browser gets its own pool of matrix.threadsPerBrowser worker threads, all in this JVM; a
+ * worker thread owns one browser of its type and pulls scenarios from that browser's queue. The
+ * whole matrix therefore takes about as long as the slowest browser. Reports are written per browser
+ * to target/matrix/&lt;browser&gt;/, and every scenario in the JSON report gets a @browser:&lt;type&gt; tag.
+ *
+ * <pre>
+ * mvn -Pmatrix test-compile exec:java -Dmatrix.browsers=chromium,firefox,webkit -Dmatrix.threadsPerBrowser=2
+ * </pre>
+ */
+public class MatrixRunner {
+    private static final Logger logger = LoggerFactory.getLogger(MatrixRunner.class);
+
+    /**
+     * Queue, report and results of one browser column of the matrix.
+     */
+    private static final class BrowserRun {
+        private final String browser;
+        private final Queue<String> scenarios;
+        private final ReportMerger merger;
+        private final LongAdder passed = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private volatile long finishedAt;
+
+        private BrowserRun(String browser, List<String> scenarios) throws IOException {
+            this.browser = browser;
+            this.scenarios = new ConcurrentLinkedQueue<>(scenarios);
+            this.merger = new ReportMerger(reportDir(browser).resolve("messages.ndjson"));
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path features = Path.of(System.getProperty("matrix.features", "src/test/resources/features"));
+        String tags = System.getProperty("matrix.tags", "not @datafeed");
+        String[] browsers = System.getProperty("matrix.browsers", "chromium,firefox,webkit").split("\\s*,\\s*");
+        int threadsPerBrowser = Integer.getInteger("matrix.threadsPerBrowser", 1);
+
+        System.setProperty("cucumber.publish.quiet", "true");
+        List<String> scenarios = ScenarioDiscovery.discover(features, tags);
+        logger.info("🧮 Matrix run | {} scenario(s) x {} | Threads per browser: {}", scenarios.size(), String.join(", ", browsers), threadsPerBrowser);
+
+        Map<String, BrowserRun> runs = new LinkedHashMap<>();
+        for (String browser : browsers) {
+            runs.put(browser, new BrowserRun(browser, scenarios));
+        }
+
+        long start = System.currentTimeMillis();
+        ExecutorService workers = Executors.newFixedThreadPool(browsers.length * threadsPerBrowser);
+        for (BrowserRun run : runs.values()) {
+            for (int i = 0; i < threadsPerBrowser; i++) {
+                workers.submit(() -> runWorker(run, tags, start));
+            }
+        }
+        workers.shutdown();
+        workers.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+
+        long totalFailed = 0;
+        for (BrowserRun run : runs.values()) {
+            run.merger.writeJson(reportDir(run.browser).resolve("cucumber-reports.json"));
+            run.merger.writeHtml(reportDir(run.browser).resolve("cucumber-reports.html"));
+            logger.info("📊 {} | Passed: {} | Failed: {} | Finished after {} ms | Report: {}", run.browser,
+                    run.passed.sum(), run.failed.sum(), run.finishedAt, reportDir(run.browser).toAbsolutePath());
+            totalFailed += run.failed.sum();
+        }
+        logger.info("🧮 Matrix run finished in {} ms", System.currentTimeMillis() - start);
+        if (totalFailed > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static void runWorker(BrowserRun run, String tags, long start) {
+        Thread.currentThread().setName("matrix-" + run.browser + "-" + Thread.currentThread().getId());
+        PlaywrightManager.setBrowserType(run.browser);
+        try {
+            String location;
+            while ((location = run.scenarios.poll()) != null) {
+                boolean ok = runScenario(run, location, tags);
+                (ok ? run.passed : run.failed).increment();
+                logger.info("{} [{}] {}", ok ? "✅" : "❌", run.browser, location);
+            }
+        } catch (Exception e) {
+            logger.error("❌ Matrix worker for {} aborted: {}", run.browser, e.getMessage(), e);
+        } finally {
+            PlaywrightManager.closeBrowser();
+            PlaywrightManager.setBrowserType(null);
+            synchronized (run) {
+                run.finishedAt = Math.max(run.finishedAt, System.currentTimeMillis() - start); // Slowest worker of this browser
+            }
+        }
+    }
+
+    private static boolean runScenario(BrowserRun run, String location, String tags) throws IOException {
+        Path json = Files.createTempFile("matrix-", ".json");
+        Path messages = Files.createTempFile("matrix-", ".ndjson");
+        try {
+            List<String> runArgs = new ArrayList<>(List.of(
+                    "--glue", "com.basesetup.playwright.stepdefinitions",
+                    "--glue", "com.basesetup.playwright.hooks",
+                    "--plugin", "json:" + json,
+                    "--plugin", "message:" + messages,
+                    "--monochrome"));
+            if (!tags.isEmpty()) {
+                runArgs.addAll(List.of("--tags", tags));
+            }
+            runArgs.add(location);
+            boolean ok = Main.run(runArgs.toArray(String[]::new), Thread.currentThread().getContextClassLoader()) == 0;
+            run.merger.add(tagWithBrowser(Files.readString(json), run.browser), Files.readString(messages));
+            return ok;
+        } finally {
+            Files.deleteIfExists(json);
+            Files.deleteIfExists(messages);
+        }
+    }
+
+    /**
+     * Adds a @browser:&lt;type&gt; tag to every scenario of a JSON report.
+     */
+    private static String tagWithBrowser(String json, String browser) {
+        if (json.isBlank()) {
+            return json;
+        }
+        JsonArray features = JsonParser.parseString(json).getAsJsonArray();
+        for (JsonElement feature : features) {
+            for (JsonElement element : feature.getAsJsonObject().getAsJsonArray("elements")) {
+                JsonObject scenario = element.getAsJsonObject();
+                if (!scenario.has("tags")) {
+                    scenario.add("tags", new JsonArray());
+                }
+                JsonObject tag = new JsonObject();
+                tag.addProperty("name", "@browser:" + browser);
+                scenario.getAsJsonArray("tags").add(tag);
+            }
+        }
+        return features.toString();
+    }
+
+    private static Path reportDir(String browser) {
+        return Path.of("target/matrix", browser);
+    }
+}
@@ -0,0 +1,265 @@
+package com.basesetup.playwright.runners;
+
+import com.basesetup.playwright.plugins.MessagesJson;
+import io.cucumber.messages.types.Attachment;
+import io.cucumber.messages.types.Envelope;
+import io.cucumber.messages.types.Examples;
+import io.cucumber.messages.types.FeatureChild;
+import io.cucumber.messages.types.GherkinDocument;
+import io.cucumber.messages.types.Pickle;
+import io.cucumber.messages.types.RuleChild;
+import io.cucumber.messages.types.Scenario;
+import io.cucumber.messages.types.TestCase;
+import io.cucumber.messages.types.TestRunFinished;
+import io.cucumber.messages.types.TestStep;
+import io.cucumber.messages.types.TestStepResultStatus;
+import io.cucumber.messages.types.Timestamp;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Merges the message streams of a rerun back into the original streaming report. Scenarios are
+ * matched by feature file and line (scenario line, or example row line for outlines), since message
+ * ids differ between runs. The original results of a rerun scenario are dropped and the rerun's test
+ * case, with its pickle references mapped onto the original pickle, is appended in their place. A rerun
+ * scenario without an original (e.g. the feature was edited in between) is dropped with its whole
+ * execution. The original report is read one line at a time; only the (small) rerun streams are held in memory.
+ */
+final class RerunReportMerger {
+    private static final Set<TestStepResultStatus> FAILING = Set.of(
+            TestStepResultStatus.FAILED, TestStepResultStatus.AMBIGUOUS, TestStepResultStatus.UNDEFINED, TestStepResultStatus.PENDING);
+
+    private final Map<String, String> pickleIds = new HashMap<>();     // rerun pickle id -> original
+    private final Map<String, String> pickleStepIds = new HashMap<>(); // rerun pickle step id -> original
+    private final Map<String, Pickle> rerunPicklesByKey = new HashMap<>();
+    private final Set<String> replacedPickles = new HashSet<>();
+    private final Set<String> droppedTestCases = new HashSet<>();
+    private final Set<String> droppedTestCaseStarts = new HashSet<>();
+    private final Set<String> droppedRerunTestCases = new HashSet<>();
+    private final Set<String> droppedRerunTestCaseStarts = new HashSet<>();
+    private final Map<String, Integer> astNodeLines = new HashMap<>();
+    private final Set<Path> rerunFeatures = new HashSet<>();
+    private final List<Envelope> rerunEnvelopes = new ArrayList<>();
+    private final Map<Envelope, Path> rerunOrigin = new IdentityHashMap<>();
+    private boolean failing;
+
+    /**
+     * @param report Original streaming report, rewritten in place.
+     * @param reruns Message streams of the rerun.
+     * @return true when the merged report has no failing scenario.
+     */
+    static boolean merge(Path report, List<Path> reruns) throws IOException {
+        return new RerunReportMerger().run(report, reruns);
+    }
+
+    private boolean run(Path report, List<Path> reruns) throws IOException {
+        loadReruns(reruns);
+
+        Path merged = Files.createTempFile(report.toAbsolutePath().getParent(), "merged", ".ndjson");
+        Timestamp finishedAt = null;
+        try (BufferedReader reader = Files.newBufferedReader(report);
+             BufferedWriter writer = Files.newBufferedWriter(merged)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                Envelope envelope = MessagesJson.parse(line);
+                if (envelope.getTestRunFinished().isPresent()) {
+                    finishedAt = envelope.getTestRunFinished().get().getTimestamp();
+                } else if (keepOriginal(envelope)) {
+                    writer.write(line);
+                    writer.newLine();
+                }
+            }
+
+            for (Envelope envelope : rerunEnvelopes) {
+                Optional<Envelope> remapped = remap(envelope, report.toAbsolutePath().getParent());
+                if (remapped.isPresent()) {
+                    MessagesJson.write(writer, remapped.get());
+                    writer.newLine();
+                }
+            }
+            Timestamp timestamp = finishedAt != null ? finishedAt : new Timestamp(System.currentTimeMillis() / 1000, 0L);
+            MessagesJson.write(writer, Envelope.of(new TestRunFinished(null, !failing, timestamp, null)));
+            writer.newLine();
+        }
+        Files.move(merged, report, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return !failing;
+    }
+
+    /**
+     * Indexes the rerun pickles by scenario key and keeps the envelopes that describe their execution.
+     */
+    private void loadReruns(List<Path> reruns) throws IOException {
+        for (Path rerun : reruns) {
+            Map<String, Integer> lines = new HashMap<>();
+            try (Stream<String> stream = Files.lines(rerun)) {
+                for (String line : (Iterable<String>) stream.filter(text -> !text.isBlank())::iterator) {
+                    Envelope envelope = MessagesJson.parse(line);
+                    envelope.getGherkinDocument().ifPresent(document -> indexLines(document, lines));
+                    envelope.getPickle().ifPresent(pickle -> {
+                        rerunPicklesByKey.put(key(pickle, lines), pickle);
+                        rerunFeatures.add(normalize(pickle.getUri()));
+                    });
+                    if (envelope.getStepDefinition().isPresent() || envelope.getHook().isPresent() || envelope.getTestCase().isPresent()
+                            || envelope.getTestCaseStarted().isPresent() || envelope.getTestStepStarted().isPresent()
+                            || envelope.getTestStepFinished().isPresent() || envelope.getAttachment().isPresent()
+                            || envelope.getTestCaseFinished().isPresent()) {
+                        rerunEnvelopes.add(envelope);
+                        rerunOrigin.put(envelope, rerun.toAbsolutePath().getParent());
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Decides whether an envelope of the original report survives, recording what gets replaced.
+     */
+    private boolean keepOriginal(Envelope envelope) {
+        if (envelope.getGherkinDocument().isPresent()) {
+            GherkinDocument document = envelope.getGherkinDocument().get();
+            if (document.getUri().map(uri -> rerunFeatures.contains(normalize(uri))).orElse(false)) {
+                indexLines(document, astNodeLines);
+            }
+            return true;
+        }
+        if (envelope.getPickle().isPresent()) {
+            Pickle original = envelope.getPickle().get();
+            Pickle rerun = rerunPicklesByKey.get(key(original, astNodeLines));
+            if (rerun != null) {
+                pickleIds.put(rerun.getId(), original.getId());
+                for (int i = 0; i < Math.min(rerun.getSteps().size(), original.getSteps().size()); i++) {
+                    pickleStepIds.put(rerun.getSteps().get(i).getId(), original.getSteps().get(i).getId());
+                }
+                replacedPickles.add(original.getId());
+            }
+            return true;
+        }
+        if (envelope.getTestCase().isPresent()) {
+            TestCase testCase = envelope.getTestCase().get();
+            if (replacedPickles.contains(testCase.getPickleId())) {
+                droppedTestCases.add(testCase.getId());
+                return false;
+            }
+            return true;
+        }
+        if (envelope.getTestCaseStarted().isPresent()) {
+            if (droppedTestCases.contains(envelope.getTestCaseStarted().get().getTestCaseId())) {
+                droppedTestCaseStarts.add(envelope.getTestCaseStarted().get().getId());
+                return false;
+            }
+            return true;
+        }
+        if (testCaseStartedId(envelope).map(droppedTestCaseStarts::contains).orElse(false)) {
+            return false;
+        }
+        envelope.getTestStepFinished().ifPresent(finished -> failing |= FAILING.contains(finished.getTestStepResult().getStatus()));
+        return true;
+    }
+
+    /**
+     * Points a rerun envelope at the original pickle, or drops it when its scenario has no original.
+     * The execution envelopes of a dropped test case are dropped with it, as in {@link #keepOriginal(Envelope)}.
+     */
+    private Optional<Envelope> remap(Envelope envelope, Path reportDir) {
+        if (envelope.getTestCase().isPresent()) {
+            TestCase testCase = envelope.getTestCase().get();
+            String pickleId = pickleIds.get(testCase.getPickleId());
+            if (pickleId == null) {
+                droppedRerunTestCases.add(testCase.getId());
+                return Optional.empty();
+            }
+            List<TestStep> steps = testCase.getTestSteps().stream()
+                    .map(step -> new TestStep(step.getHookId().orElse(null), step.getId(),
+                            step.getPickleStepId().map(id -> pickleStepIds.getOrDefault(id, id)).orElse(null),
+                            step.getStepDefinitionIds().orElse(null), step.getStepMatchArgumentsLists().orElse(null)))
+                    .toList();
+            return Optional.of(Envelope.of(new TestCase(testCase.getId(), pickleId, steps)));
+        }
+        if (envelope.getTestCaseStarted().isPresent()) {
+            if (droppedRerunTestCases.contains(envelope.getTestCaseStarted().get().getTestCaseId())) {
+                droppedRerunTestCaseStarts.add(envelope.getTestCaseStarted().get().getId());
+                return Optional.empty();
+            }
+            return Optional.of(envelope);
+        }
+        if (testCaseStartedId(envelope).map(droppedRerunTestCaseStarts::contains).orElse(false)) {
+            return Optional.empty();
+        }
+        if (envelope.getAttachment().isPresent() && envelope.getAttachment().get().getUrl().isPresent()) {
+            Attachment attachment = envelope.getAttachment().get();
+            // Externalized attachments are relative to the rerun stream, rebase them onto the report
+            String url = reportDir.relativize(rerunOrigin.get(envelope).resolve(attachment.getUrl().get())).toString().replace('\\', '/');
+            return Optional.of(Envelope.of(new Attachment(attachment.getBody(), attachment.getContentEncoding(), attachment.getFileName().orElse(null),
+                    attachment.getMediaType(), attachment.getSource().orElse(null), attachment.getTestCaseStartedId().orElse(null),
+                    attachment.getTestStepId().orElse(null), url)));
+        }
+        envelope.getTestStepFinished().ifPresent(finished -> failing |= FAILING.contains(finished.getTestStepResult().getStatus()));
+        return Optional.of(envelope);
+    }
+
+    /**
+     * @return The test case started id a step, test case finished or attachment envelope belongs to.
+     */
+    private static Optional<String> testCaseStartedId(Envelope envelope) {
+        return envelope.getTestStepStarted().map(started -> started.getTestCaseStartedId())
+                .or(() -> envelope.getTestStepFinished().map(finished -> finished.getTestCaseStartedId()))
+                .or(() -> envelope.getTestCaseFinished().map(finished -> finished.getTestCaseStartedId()))
+                .or(() -> envelope.getAttachment().flatMap(Attachment::getTestCaseStartedId));
+    }
+
+    /**
+     * Records the line of every scenario and example row of a document.
+     */
+    private static void indexLines(GherkinDocument document, Map<String, Integer> lines) {
+        document.getFeature().ifPresent(feature -> {
+            for (FeatureChild child : feature.getChildren()) {
+                child.getScenario().ifPresent(scenario -> indexScenario(scenario, lines));
+                child.getRule().ifPresent(rule -> rule.getChildren().stream()
+                        .map(RuleChild::getScenario)
+                        .flatMap(Optional::stream)
+                        .forEach(scenario -> indexScenario(scenario, lines)));
+            }
+        });
+    }
+
+    private static void indexScenario(Scenario scenario, Map<String, Integer> lines) {
+        lines.put(scenario.getId(), scenario.getLocation().getLine().intValue());
+        for (Examples examples : scenario.getExamples()) {
+            examples.getTableBody().forEach(row -> lines.put(row.getId(), row.getLocation().getLine().intValue()));
+        }
+    }
+
+    /**
+     * Identifies a pickle across runs by feature file and the line of its innermost AST node.
+     */
+    private static String key(Pickle pickle, Map<String, Integer> lines) {
+        List<String> astNodeIds = pickle.getAstNodeIds();
+        return normalize(pickle.getUri()) + ":" + lines.get(astNodeIds.get(astNodeIds.size() - 1));
+    }
+
+    private static Path normalize(String uri) {
+        if (uri.startsWith("file:")) {
+            URI parsed = URI.create(uri);
+            return parsed.isOpaque() ? Path.of(parsed.getSchemeSpecificPart()).toAbsolutePath().normalize() : Path.of(parsed).normalize();
+        }
+        return Path.of(uri).toAbsolutePath().normalize();
+    }
+}
@@ -0,0 +1,172 @@
+package com.basesetup.playwright.runners;
+
+import com.basesetup.playwright.plugins.MessagesJson;
+import io.cucumber.gherkin.GherkinParser;
+import io.cucumber.messages.types.Duration;
+import io.cucumber.messages.types.Envelope;
+import io.cucumber.messages.types.Pickle;
+import io.cucumber.messages.types.TestCase;
+import io.cucumber.messages.types.TestCaseFinished;
+import io.cucumber.messages.types.TestCaseStarted;
+import io.cucumber.messages.types.TestRunFinished;
+import io.cucumber.messages.types.TestStep;
+import io.cucumber.messages.types.TestStepFinished;
+import io.cucumber.messages.types.TestStepResult;
+import io.cucumber.messages.types.TestStepResultStatus;
+import io.cucumber.messages.types.TestStepStarted;
+import io.cucumber.messages.types.Timestamp;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class RerunReportMergerTest {
+    private static final String URI = "features/checkout.feature";
+    private static final String FEATURE = """
+            Feature: Checkout
+
+              Scenario: Pay by card
+                Given a cart
+                When I pay by card
+
+              Scenario: Pay by invoice
+                Given a cart
+                When I pay by invoice
+            """;
+    private static final Timestamp NOW = new Timestamp(0L, 0L);
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void replacesTheOriginalResultsOfRerunScenarios() throws IOException {
+        Path report = write("report.ndjson", run(FEATURE, Map.of("Pay by card", TestStepResultStatus.FAILED, "Pay by invoice", TestStepResultStatus.PASSED)));
+        Path rerun = write("rerun-0.ndjson", run(FEATURE, Map.of("Pay by card", TestStepResultStatus.PASSED)));
+
+        assertTrue(RerunReportMerger.merge(report, List.of(rerun)));
+
+        List<Envelope> merged = read(report);
+        assertConsistent(merged);
+        assertEquals(2, merged.stream().filter(envelope -> envelope.getTestCase().isPresent()).count());
+        assertFalse(statuses(merged).contains(TestStepResultStatus.FAILED));
+        assertTrue(merged.get(merged.size() - 1).getTestRunFinished().map(TestRunFinished::getSuccess).orElse(false));
+    }
+
+    @Test
+    public void dropsTheWholeExecutionOfRerunScenariosWithoutOriginal() throws IOException {
+        String edited = FEATURE + """
+
+                  Scenario: Pay by voucher
+                    Given a cart
+                    When I pay by voucher
+                """;
+        Path report = write("report.ndjson", run(FEATURE, Map.of("Pay by card", TestStepResultStatus.FAILED, "Pay by invoice", TestStepResultStatus.PASSED)));
+        Path rerun = write("rerun-0.ndjson", run(edited, Map.of("Pay by card", TestStepResultStatus.PASSED, "Pay by voucher", TestStepResultStatus.FAILED)));
+
+        assertTrue(RerunReportMerger.merge(report, List.of(rerun)));
+
+        List<Envelope> merged = read(report);
+        assertConsistent(merged);
+        assertEquals(2, merged.stream().filter(envelope -> envelope.getTestCase().isPresent()).count());
+        assertEquals(2, merged.stream().filter(envelope -> envelope.getTestCaseStarted().isPresent()).count());
+        assertFalse(statuses(merged).contains(TestStepResultStatus.FAILED));
+    }
+
+    /**
+     * Every test case points at a pickle, and every execution envelope at a test case or test case started.
+     */
+    private static void assertConsistent(List<Envelope> merged) {
+        Set<String> pickles = new HashSet<>();
+        Set<String> testCases = new HashSet<>();
+        Set<String> testCaseStarts = new HashSet<>();
+        for (Envelope envelope : merged) {
+            envelope.getPickle().ifPresent(pickle -> pickles.add(pickle.getId()));
+            envelope.getTestCase().ifPresent(testCase -> {
+                assertTrue(pickles.contains(testCase.getPickleId()));
+                testCases.add(testCase.getId());
+            });
+            envelope.getTestCaseStarted().ifPresent(started -> {
+                assertTrue(testCases.contains(started.getTestCaseId()));
+                testCaseStarts.add(started.getId());
+            });
+            envelope.getTestStepStarted().ifPresent(started -> assertTrue(testCaseStarts.contains(started.getTestCaseStartedId())));
+            envelope.getTestStepFinished().ifPresent(finished -> assertTrue(testCaseStarts.contains(finished.getTestCaseStartedId())));
+            envelope.getTestCaseFinished().ifPresent(finished -> assertTrue(testCaseStarts.contains(finished.getTestCaseStartedId())));
+        }
+    }
+
+    private static Set<TestStepResultStatus> statuses(List<Envelope> merged) {
+        Set<TestStepResultStatus> statuses = new HashSet<>();
+        merged.forEach(envelope -> envelope.getTestStepFinished().ifPresent(finished -> statuses.add(finished.getTestStepResult().getStatus())));
+        return statuses;
+    }
+
+    /**
+     * Builds the messages of one run that executed the named scenarios, every step ending with the given status.
+     * Like a run filtered by "path:line", only the pickles of the executed scenarios are emitted.
+     */
+    private static List<Envelope> run(String feature, Map<String, TestStepResultStatus> results) {
+        List<Envelope> envelopes = new ArrayList<>();
+        List<Pickle> pickles = new ArrayList<>();
+        GherkinParser.builder().idGenerator(() -> UUID.randomUUID().toString()).build()
+                .parse(URI, feature.getBytes(StandardCharsets.UTF_8))
+                .forEach(envelope -> {
+                    if (envelope.getPickle().isPresent()) {
+                        pickles.add(envelope.getPickle().get());
+                    } else {
+                        envelopes.add(envelope);
+                    }
+                });
+        pickles.removeIf(pickle -> !results.containsKey(pickle.getName()));
+        pickles.forEach(pickle -> envelopes.add(Envelope.of(pickle)));
+
+        for (Pickle pickle : pickles) {
+            TestStepResultStatus status = results.get(pickle.getName());
+            List<TestStep> steps = pickle.getSteps().stream()
+                    .map(step -> new TestStep(null, UUID.randomUUID().toString(), step.getId(), List.of(), List.of()))
+                    .toList();
+            TestCase testCase = new TestCase(UUID.randomUUID().toString(), pickle.getId(), steps);
+            String startedId = UUID.randomUUID().toString();
+            envelopes.add(Envelope.of(testCase));
+            envelopes.add(Envelope.of(new TestCaseStarted(0L, startedId, testCase.getId(), null, NOW)));
+            for (TestStep step : steps) {
+                envelopes.add(Envelope.of(new TestStepStarted(startedId, step.getId(), NOW)));
+                envelopes.add(Envelope.of(new TestStepFinished(startedId, step.getId(),
+                        new TestStepResult(new Duration(0L, 0L), null, status, null), NOW)));
+            }
+            envelopes.add(Envelope.of(new TestCaseFinished(startedId, NOW, false)));
+        }
+        envelopes.add(Envelope.of(new TestRunFinished(null, !results.containsValue(TestStepResultStatus.FAILED), NOW, null)));
+        return envelopes;
+    }
+
+    private Path write(String name, List<Envelope> envelopes) throws IOException {
+        Path file = folder.getRoot().toPath().resolve(name);
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            for (Envelope envelope : envelopes) {
+                MessagesJson.write(writer, envelope);
+                writer.newLine();
+            }
+        }
+        return file;
+    }
+
+    private static List<Envelope> read(Path file) throws IOException {
+        return Files.readAllLines(file).stream().filter(line -> !line.isBlank()).map(MessagesJson::parse).toList();
+    }
+}
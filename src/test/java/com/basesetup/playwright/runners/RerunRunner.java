@@ -0,0 +1,134 @@
+package com.basesetup.playwright.runners;
+
+import com.basesetup.playwright.plugins.StreamingReportConverter;
+import com.basesetup.playwright.plugins.StreamingReportPlugin;
+import com.basesetup.playwright.utils.managers.PlaywrightManager;
+import io.cucumber.core.cli.Main;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Failed-only rerun mode. {@link TestRunners} records the failed scenarios of a run in a ledger
+ * (Cucumber's rerun format, target/rerun.txt). This runner reads the ledger, runs just those
+ * scenarios on rerun.threads worker threads, and merges the results back into the streaming report
+ * of the original run before regenerating its HTML and JUnit outputs. The ledger is rewritten with
+ * the scenarios that still fail, so the rerun can be repeated.
+ *
+ * <pre>
+ * mvn -Prerun test-compile exec:java -Drerun.threads=4
+ * </pre>
+ */
+public class RerunRunner {
+    private static final Logger logger = LoggerFactory.getLogger(RerunRunner.class);
+    private static final Path RERUN_DIR = Path.of("target/rerun");
+
+    private static final List<String> stillFailing = new CopyOnWriteArrayList<>();
+    private static final List<Path> streams = new CopyOnWriteArrayList<>();
+    private static final AtomicInteger sequence = new AtomicInteger();
+
+    public static void main(String[] args) throws Exception {
+        Path ledger = Path.of(System.getProperty("rerun.ledger", "target/rerun.txt"));
+        Path report = Path.of(System.getProperty("rerun.report", "target/cucumber-report.ndjson"));
+        int threads = Integer.getInteger("rerun.threads", 4);
+
+        List<String> locations = Files.exists(ledger) ? readLedger(ledger) : List.of();
+        if (locations.isEmpty()) {
+            logger.info("✅ Nothing to rerun | Ledger {} lists no failed scenarios", ledger);
+            return;
+        }
+
+        System.setProperty("cucumber.publish.quiet", "true");
+        Files.createDirectories(RERUN_DIR);
+        Queue<String> queue = new ConcurrentLinkedQueue<>(locations);
+        logger.info("🔂 Rerunning {} failed scenario(s) from {} | Threads: {}", locations.size(), ledger, threads);
+
+        ExecutorService workers = Executors.newFixedThreadPool(threads);
+        for (int i = 0; i < threads; i++) {
+            workers.submit(() -> runWorker(queue));
+        }
+        workers.shutdown();
+        workers.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+
+        Files.write(ledger, stillFailing);
+        if (Files.exists(report)) {
+            boolean passed = RerunReportMerger.merge(report, List.copyOf(streams));
+            String junit = System.getProperty("report.junit");
+            StreamingReportConverter.convert(report,
+                    Path.of(System.getProperty("report.html", "target/cucumber-reports.html")),
+                    junit == null || junit.isBlank() ? null : Path.of(junit));
+            logger.info("🔀 Rerun results merged into {} | Run now {}", report, passed ? "passes" : "still fails");
+        } else {
+            logger.warn("⚠️ Original report {} not found | Rerun streams left in {}", report, RERUN_DIR);
+        }
+
+        logger.info("📊 Rerun finished | Fixed: {} | Still failing: {}", locations.size() - stillFailing.size(), stillFailing.size());
+        stillFailing.forEach(location -> logger.error("❌ Still failing: {}", location));
+        if (!stillFailing.isEmpty()) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Splits Cucumber's rerun format ("path:line:line" entries) into one location per scenario.
+     */
+    static List<String> readLedger(Path ledger) throws IOException {
+        List<String> locations = new ArrayList<>();
+        for (String entry : Files.readString(ledger).trim().split("\\s+")) {
+            if (entry.isEmpty()) {
+                continue;
+            }
+            List<String> parts = new ArrayList<>(Arrays.asList(entry.split(":")));
+            List<String> lines = new ArrayList<>();
+            while (parts.size() > 1 && parts.get(parts.size() - 1).matches("\\d+")) {
+                lines.add(0, parts.remove(parts.size() - 1));
+            }
+            String path = String.join(":", parts);
+            if (lines.isEmpty()) {
+                locations.add(path);
+            } else {
+                lines.forEach(line -> locations.add(path + ":" + line));
+            }
+        }
+        return locations;
+    }
+
+    private static void runWorker(Queue<String> queue) {
+        try {
+            String location;
+            while ((location = queue.poll()) != null) {
+                Path stream = RERUN_DIR.resolve("rerun-" + sequence.incrementAndGet() + ".ndjson");
+                String[] runArgs = {
+                        "--glue", "com.basesetup.playwright.stepdefinitions",
+                        "--glue", "com.basesetup.playwright.hooks",
+                        "--plugin", StreamingReportPlugin.class.getName() + ":" + stream,
+                        "--monochrome",
+                        location
+                };
+                boolean ok = Main.run(runArgs, Thread.currentThread().getContextClassLoader()) == 0;
+                streams.add(stream);
+                if (!ok) {
+                    stillFailing.add(location);
+                }
+                logger.info("{} Rerun {}", ok ? "✅" : "❌", location);
+            }
+        } catch (Exception e) {
+            logger.error("❌ Rerun worker aborted: {}", e.getMessage(), e);
+        } finally {
+            PlaywrightManager.closeBrowser();
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.basesetup.playwright.runners;
+
+import com.basesetup.playwright.runners.distributed.ReportMerger;
+import com.basesetup.playwright.runners.distributed.ScenarioDiscovery;
+import com.basesetup.playwright.utils.managers.PlaywrightManager;
+import io.cucumber.core.cli.Main;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs scenarios one by one on a pool of worker threads and retries a failed scenario right away,
+ * on the same worker and in a fresh BrowserContext, up to retry.maxRetries times. Only the last
+ * attempt of each scenario goes into the report. Outcomes (passed, passed after retry, failed) are
+ * kept in a {@link FlakinessStore}; failures of quarantined scenarios are reported but do not fail the run.
+ * The unit is one pickle: each example of a Scenario Outline is run, retried and tracked on its own,
+ * by the location of its examples row, so one flaky example does not re-run or quarantine the others.
+ *
+ * <pre>
+ * mvn -Pretry test-compile exec:java -Dretry.threads=2 -Dretry.maxRetries=2
+ * </pre>
+ */
+public class RetryRunner {
+    private static final Logger logger = LoggerFactory.getLogger(RetryRunner.class);
+
+    private static final List<String> failed = new CopyOnWriteArrayList<>();
+    private static final List<String> quarantinedFailures = new CopyOnWriteArrayList<>();
+    private static final List<String> flaky = new CopyOnWriteArrayList<>();
+
+    public static void main(String[] args) throws Exception {
+        Path features = Path.of(System.getProperty("retry.features", "src/test/resources/features"));
+        String tags = System.getProperty("retry.tags", "not @datafeed");
+        int threads = Integer.getInteger("retry.threads", 1);
+        int maxRetries = Integer.getInteger("retry.maxRetries", 2);
+        FlakinessStore store = new FlakinessStore(
+                Path.of(System.getProperty("retry.statsFile", "flakiness-stats.json")),
+                Integer.getInteger("retry.window", 20),
+                Integer.getInteger("retry.minRuns", 5),
+                Double.parseDouble(System.getProperty("retry.quarantineThreshold", "0.3")));
+
+        System.setProperty("cucumber.publish.quiet", "true");
+        Queue<String> scenarios = new ConcurrentLinkedQueue<>(ScenarioDiscovery.discover(features, tags));
+        ReportMerger merger = new ReportMerger(Path.of("target/retry/messages.ndjson"));
+        logger.info("🔁 Retry run | {} scenario(s) from {} | Tags: {} | Threads: {} | Max retries: {}",
+                scenarios.size(), features, tags, threads, maxRetries);
+
+        ExecutorService workers = Executors.newFixedThreadPool(threads);
+        for (int i = 0; i < threads; i++) {
+            workers.submit(() -> runWorker(scenarios, tags, maxRetries, store, merger));
+        }
+        workers.shutdown();
+        workers.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+
+        store.save();
+        merger.writeJson(Path.of("target/cucumber-reports.json"));
+        merger.writeHtml(Path.of("target/cucumber-reports.html"));
+        flaky.forEach(location -> logger.warn("🎲 Passed after retry: {} | Flake rate: {}", location, percent(store.flakeRate(location))));
+        quarantinedFailures.forEach(location -> logger.warn("🚧 Quarantined, not counted: {}", location));
+        failed.forEach(location -> logger.error("❌ Failed after {} attempt(s): {}", maxRetries + 1, location));
+        logger.info("📊 Retry run finished | Flaky: {} | Failed: {} | Quarantined failures: {}", flaky.size(), failed.size(), quarantinedFailures.size());
+        if (!failed.isEmpty()) {
+            System.exit(1);
+        }
+    }
+
+    private static void runWorker(Queue<String> scenarios, String tags, int maxRetries, FlakinessStore store, ReportMerger merger) {
+        try {
+            String location;
+            while ((location = scenarios.poll()) != null) {
+                runWithRetries(location, tags, maxRetries, store, merger);
+            }
+        } catch (Exception e) {
+            logger.error("❌ Retry worker aborted: {}", e.getMessage(), e);
+        } finally {
+            PlaywrightManager.closeBrowser();
+        }
+    }
+
+    /**
+     * @param location "path:line" of one pickle; the examples row for an outline example.
+     */
+    private static void runWithRetries(String location, String tags, int maxRetries, FlakinessStore store, ReportMerger merger) throws IOException {
+        boolean quarantined = store.isQuarantined(location); // Decided by earlier runs, not by this one
+        Path json = Files.createTempFile("retry-", ".json");
+        Path messages = Files.createTempFile("retry-", ".ndjson");
+        try {
+            boolean passed = false;
+            int attempt = 0;
+            while (!passed && attempt <= maxRetries) {
+                if (attempt > 0) {
+                    logger.warn("🔁 Retrying {} | Attempt {}/{}", location, attempt + 1, maxRetries + 1);
+                    PlaywrightManager.closeContext(); // Make sure the retry starts from a brand-new context
+                }
+                passed = runOnce(location, tags, json, messages);
+                attempt++;
+            }
+            merger.add(Files.readString(json), Files.readString(messages));
+
+            FlakinessStore.Outcome outcome = !passed ? FlakinessStore.Outcome.FAILED
+                    : attempt > 1 ? FlakinessStore.Outcome.FLAKY : FlakinessStore.Outcome.PASSED;
+            store.record(location, outcome);
+            if (outcome == FlakinessStore.Outcome.FLAKY) {
+                flaky.add(location);
+            } else if (outcome == FlakinessStore.Outcome.FAILED) {
+                (quarantined ? quarantinedFailures : failed).add(location);
+            }
+        } finally {
+            Files.deleteIfExists(json);
+            Files.deleteIfExists(messages);
+        }
+    }
+
+    /**
+     * Runs one attempt, overwriting the report files of the previous one.
+     */
+    private static boolean runOnce(String location, String tags, Path json, Path messages) {
+        List<String> runArgs = new ArrayList<>(List.of(
+                "--glue", "com.basesetup.playwright.stepdefinitions",
+                "--glue", "com.basesetup.playwright.hooks",
+                "--plugin", "json:" + json,
+                "--plugin", "message:" + messages,
+                "--monochrome"));
+        if (!tags.isEmpty()) {
+            runArgs.addAll(List.of("--tags", tags)); // Examples can carry tags of their own
+        }
+        runArgs.add(location);
+        return Main.run(runArgs.toArray(String[]::new), Thread.currentThread().getContextClassLoader()) == 0;
+    }
+
+    private static String percent(double rate) {
+        return Math.round(rate * 100) + "%";
+    }
+}
@@ -7,12 +7,15 @@ import io.cucumber.junit.CucumberOptions;
 @RunWith(Cucumber.class)
 @CucumberOptions(
         features = "src/test/resources/features",
+        tags = "not @datafeed",
         glue = {"com.basesetup.playwright.stepdefinitions", "com.basesetup.playwright.hooks"},
         plugin = {
                 "pretty",
                 "html:target/cucumber-reports.html",
-                "json:target/cucumber-reports.json",
-                "junit:target/cucumber-reports.xml"
+                "com.basesetup.playwright.plugins.StreamingReportPlugin:target/cucumber-report.ndjson",
+                "junit:target/cucumber-reports.xml",
+                "rerun:target/rerun.txt",
+                "com.basesetup.playwright.plugins.StepTimingPlugin:target/step-profile"
         },
         monochrome = true,
         publish = true
@@ -0,0 +1,211 @@
+package com.basesetup.playwright.runners.distributed;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Coordinator of a distributed run. Holds the queue of scenarios found under the features
+ * directory and hands them out to {@link Worker} processes, which connect over TCP and pull one
+ * scenario at a time, so faster workers simply take more of the queue. Scenarios leased by a worker
+ * that disconnects or exceeds the lease timeout are re-queued for another worker. Results are merged
+ * into target/cucumber-reports.json and target/cucumber-reports.html.
+ *
+ * <p>Line protocol, one connection per worker thread:
+ * <pre>
+ * worker: HELLO &lt;workerId&gt;
+ * coord:  WELCOME &lt;tag expression&gt;
+ * worker: NEXT
+ * coord:  RUN &lt;id&gt; &lt;path:line&gt; | WAIT &lt;ms&gt; | BYE
+ * worker: RESULT &lt;id&gt; &lt;PASSED|FAILED&gt; &lt;base64 json report&gt; &lt;base64 message stream&gt;
+ * </pre>
+ *
+ * <pre>
+ * mvn -Pdistributed test-compile exec:java -Ddistributed.localWorkers=3
+ * </pre>
+ */
+public class Coordinator {
+    private static final Logger logger = LoggerFactory.getLogger(Coordinator.class);
+    private static final long WAIT_MS = 1000;
+
+    private static final AtomicInteger failed = new AtomicInteger();
+
+    public static void main(String[] args) throws Exception {
+        int port = Integer.getInteger("distributed.port", 7070);
+        Path features = Path.of(System.getProperty("distributed.features", "src/test/resources/features"));
+        String tags = System.getProperty("distributed.tags", "not @datafeed");
+        int localWorkers = Integer.getInteger("distributed.localWorkers", 0);
+        int leaseTimeoutMs = (int) TimeUnit.SECONDS.toMillis(Integer.getInteger("distributed.leaseTimeoutSeconds", 900));
+        int maxAttempts = Integer.getInteger("distributed.maxAttempts", 2);
+
+        WorkQueue queue = new WorkQueue(ScenarioDiscovery.discover(features, tags), maxAttempts);
+        ReportMerger merger = new ReportMerger(Path.of("target/distributed/messages.ndjson"));
+        logger.info("🗂️ Coordinator | {} scenario(s) from {} | Tags: {} | Port: {}", queue.size(), features, tags, port);
+
+        ExecutorService connections = Executors.newCachedThreadPool();
+        List<Process> workerProcesses = new ArrayList<>();
+        try (ServerSocket server = new ServerSocket(port)) {
+            connections.submit(() -> acceptWorkers(server, connections, queue, merger, tags, leaseTimeoutMs));
+            for (int i = 0; i < localWorkers; i++) {
+                workerProcesses.add(startLocalWorker(port, i + 1));
+            }
+            queue.awaitFinished();
+        } finally {
+            connections.shutdownNow();
+            workerProcesses.forEach(process -> {
+                try {
+                    process.waitFor(30, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                process.destroy();
+            });
+        }
+
+        merger.writeJson(Path.of("target/cucumber-reports.json"));
+        merger.writeHtml(Path.of("target/cucumber-reports.html"));
+        List<String> abandoned = queue.getAbandoned();
+        logger.info("📊 Distributed run finished | Scenarios: {} | Failed: {} | Abandoned: {}", queue.size(), failed.get(), abandoned.size());
+        abandoned.forEach(location -> logger.error("❌ Not run: {}", location));
+        if (failed.get() > 0 || !abandoned.isEmpty()) {
+            System.exit(1);
+        }
+    }
+
+    private static void acceptWorkers(ServerSocket server, ExecutorService connections, WorkQueue queue,
+                                      ReportMerger merger, String tags, int leaseTimeoutMs) {
+        while (!server.isClosed()) {
+            try {
+                Socket socket = server.accept();
+                socket.setSoTimeout(leaseTimeoutMs);
+                connections.submit(() -> serve(socket, queue, merger, tags));
+            } catch (IOException e) {
+                if (!server.isClosed()) {
+                    logger.error("❌ Failed to accept worker connection: {}", e.getMessage(), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Serves one worker connection until it says goodbye or dies, re-queueing its lease on failure.
+     */
+    private static void serve(Socket socket, WorkQueue queue, ReportMerger merger, String tags) {
+        String workerId = socket.getRemoteSocketAddress().toString();
+        try (socket;
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             PrintWriter out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                String[] parts = line.split(" ", 5);
+                switch (parts[0]) {
+                    case "HELLO" -> {
+                        workerId = parts[1] + "@" + workerId;
+                        logger.info("🤝 Worker connected: {}", workerId);
+                        out.println("WELCOME " + tags);
+                    }
+                    case "NEXT" -> {
+                        Optional<Integer> id = queue.lease(workerId);
+                        if (id.isPresent()) {
+                            out.println("RUN " + id.get() + " " + queue.location(id.get()));
+                        } else if (queue.isFinished()) {
+                            out.println("BYE");
+                            return;
+                        } else {
+                            out.println("WAIT " + WAIT_MS);
+                        }
+                    }
+                    case "RESULT" -> {
+                        int id = Integer.parseInt(parts[1]);
+                        if (queue.complete(id, workerId)) {
+                            merger.add(decode(parts[3]), decode(parts[4]));
+                            boolean passed = "PASSED".equals(parts[2]);
+                            if (!passed) {
+                                failed.incrementAndGet();
+                            }
+                            logger.info("{} {} | Worker: {}", passed ? "✅" : "❌", queue.location(id), workerId);
+                        }
+                    }
+                    default -> logger.warn("⚠️ Unknown message from {}: {}", workerId, parts[0]);
+                }
+            }
+            logger.warn("⚠️ Worker {} disconnected", workerId);
+        } catch (SocketTimeoutException e) {
+            logger.warn("⏰ Worker {} exceeded the lease timeout", workerId);
+        } catch (SocketException e) {
+            logger.warn("⚠️ Worker {} connection lost: {}", workerId, e.getMessage());
+        } catch (IOException | RuntimeException e) {
+            logger.error("❌ Error serving worker {}: {}", workerId, e.getMessage(), e);
+        } finally {
+            queue.release(workerId);
+        }
+    }
+
+    private static String decode(String value) {
+        return "-".equals(value) ? "" : new String(Base64.getDecoder().decode(value), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Starts a worker JVM on this machine with the same test classpath.
+     */
+    private static Process startLocalWorker(int port, int index) throws IOException {
+        List<String> command = new ArrayList<>(List.of(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp", testClasspath(),
+                "-Ddistributed.coordinator=localhost:" + port,
+                "-Ddistributed.workerId=local-" + index));
+        for (String key : System.getProperty("distributed.forwardProperties", "env,browser,headless,baseUrl,mockMode").split(",")) {
+            String value = System.getProperty(key.trim());
+            if (value != null) {
+                command.add("-D" + key.trim() + "=" + value);
+            }
+        }
+        command.add(Worker.class.getName());
+
+        logger.info("🚀 Starting local worker {}", index);
+        return new ProcessBuilder(command)
+                .redirectOutput(ProcessBuilder.Redirect.INHERIT)
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+    }
+
+    /**
+     * exec:java runs us in an isolated class loader, so java.class.path is Maven's; prefer its URLs.
+     */
+    private static String testClasspath() {
+        if (Thread.currentThread().getContextClassLoader() instanceof URLClassLoader loader && loader.getURLs().length > 0) {
+            List<String> entries = new ArrayList<>();
+            for (URL url : loader.getURLs()) {
+                try {
+                    entries.add(Path.of(url.toURI()).toString());
+                } catch (URISyntaxException e) {
+                    entries.add(url.getPath());
+                }
+            }
+            return String.join(File.pathSeparator, entries);
+        }
+        return System.getProperty("java.class.path");
+    }
+}
@@ -0,0 +1,278 @@
+package com.basesetup.playwright.runners.distributed;
+
+import com.basesetup.playwright.plugins.MessagesJson;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.cucumber.htmlformatter.MessagesToHtmlWriter;
+import io.cucumber.messages.types.Background;
+import io.cucumber.messages.types.Envelope;
+import io.cucumber.messages.types.Examples;
+import io.cucumber.messages.types.FeatureChild;
+import io.cucumber.messages.types.GherkinDocument;
+import io.cucumber.messages.types.Hook;
+import io.cucumber.messages.types.Location;
+import io.cucumber.messages.types.Pickle;
+import io.cucumber.messages.types.PickleStep;
+import io.cucumber.messages.types.PickleTag;
+import io.cucumber.messages.types.RuleChild;
+import io.cucumber.messages.types.Scenario;
+import io.cucumber.messages.types.StepDefinition;
+import io.cucumber.messages.types.TestCase;
+import io.cucumber.messages.types.TestRunFinished;
+import io.cucumber.messages.types.TestStep;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Merges the per-scenario reports sent back by workers into the standard Cucumber outputs.
+ * JSON features are grouped by uri. Message streams are appended to a spool file and rendered to
+ * HTML at the end, keeping one meta, one testRunStarted and one testRunFinished envelope, and one
+ * copy of each feature, pickle and definition however many scenario runs repeated them.
+ */
+public final class ReportMerger {
+    private final Gson gson = new Gson();
+    private final Map<String, JsonObject> featuresByUri = new LinkedHashMap<>();
+    private final Path messagesSpool;
+
+    public ReportMerger(Path messagesSpool) throws IOException {
+        this.messagesSpool = messagesSpool;
+        Files.createDirectories(messagesSpool.getParent());
+        Files.deleteIfExists(messagesSpool);
+        Files.createFile(messagesSpool);
+    }
+
+    public synchronized void add(String json, String messages) throws IOException {
+        if (!json.isBlank()) {
+            for (JsonElement element : JsonParser.parseString(json).getAsJsonArray()) {
+                JsonObject feature = element.getAsJsonObject();
+                JsonObject existing = featuresByUri.putIfAbsent(feature.get("uri").getAsString(), feature);
+                if (existing != null) {
+                    existing.getAsJsonArray("elements").addAll(feature.getAsJsonArray("elements"));
+                }
+            }
+        }
+        if (!messages.isBlank()) {
+            Files.writeString(messagesSpool, messages.endsWith("\n") ? messages : messages + "\n", StandardOpenOption.APPEND);
+        }
+    }
+
+    public synchronized void writeJson(Path file) throws IOException {
+        JsonArray features = new JsonArray();
+        featuresByUri.values().forEach(features::add);
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            new GsonBuilder().setPrettyPrinting().create().toJson(features, writer);
+        }
+    }
+
+    /**
+     * Receives the merged message stream.
+     */
+    @FunctionalInterface
+    interface EnvelopeSink {
+        void write(Envelope envelope) throws IOException;
+    }
+
+    public synchronized void writeHtml(Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (OutputStream out = Files.newOutputStream(file);
+             MessagesToHtmlWriter html = new MessagesToHtmlWriter(out, MessagesJson::write)) {
+            writeMessages(html::write);
+        }
+    }
+
+    /**
+     * Streams the spooled messages with the repeated envelopes merged, as rendered by {@link #writeHtml(Path)}.
+     */
+    synchronized void writeMessages(EnvelopeSink sink) throws IOException {
+        StaticMessages statics = new StaticMessages();
+        boolean metaWritten = false;
+        boolean runStartedWritten = false;
+        Envelope runFinished = null;
+        try (BufferedReader reader = Files.newBufferedReader(messagesSpool)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                Envelope envelope = MessagesJson.parse(line);
+                if (envelope.getMeta().isPresent()) {
+                    statics.nextRun(); // Every scenario run starts with its own meta envelope
+                    if (metaWritten) continue;
+                    metaWritten = true;
+                } else if (envelope.getTestRunStarted().isPresent()) {
+                    if (runStartedWritten) continue;
+                    runStartedWritten = true;
+                } else if (envelope.getTestRunFinished().isPresent()) {
+                    // Keep the latest finish, but never let a later success hide an earlier failure
+                    boolean failedSoFar = runFinished != null && !runFinished.getTestRunFinished().map(TestRunFinished::getSuccess).orElse(true);
+                    if (!failedSoFar) {
+                        runFinished = envelope;
+                    }
+                    continue;
+                }
+                Optional<Envelope> merged = statics.merge(envelope);
+                if (merged.isPresent()) {
+                    sink.write(merged.get());
+                }
+            }
+        }
+        if (runFinished != null) {
+            sink.write(runFinished);
+        }
+    }
+
+    /**
+     * Deduplicates the envelopes that every scenario run repeats: source and gherkinDocument (by uri),
+     * pickle (by uri and AST node), stepDefinition, hook and parameterType (by definition). Message ids
+     * are random per run, so a repeated envelope's ids are mapped onto the first one's, and the
+     * testCase envelopes that reference them are rewritten to match. AST nodes of the same feature
+     * file are matched by line and column.
+     */
+    private static final class StaticMessages {
+        private final Map<String, Map<String, String>> astIdsByUri = new HashMap<>(); // uri -> line:column -> kept id
+        private final Map<String, String> keptPickles = new HashMap<>();               // uri + AST node ids -> kept pickle id
+        private final Map<String, List<String>> keptPickleSteps = new HashMap<>();     // kept pickle id -> kept step ids
+        private final Map<Object, String> keptDefinitions = new HashMap<>();           // definition -> kept id
+        private final Set<String> keptParameterTypes = new HashSet<>();
+        private final Map<String, String> ids = new HashMap<>();                        // id in the current run -> kept id
+
+        void nextRun() {
+            ids.clear();
+        }
+
+        Optional<Envelope> merge(Envelope envelope) {
+            if (envelope.getSource().isPresent()) {
+                return astIdsByUri.containsKey(envelope.getSource().get().getUri()) ? Optional.empty() : Optional.of(envelope);
+            }
+            if (envelope.getGherkinDocument().isPresent()) {
+                GherkinDocument document = envelope.getGherkinDocument().get();
+                String uri = document.getUri().orElse("");
+                Map<String, String> runAstIds = new HashMap<>();
+                indexAst(document, runAstIds);
+                Map<String, String> kept = astIdsByUri.putIfAbsent(uri, runAstIds);
+                runAstIds.forEach((position, id) -> ids.put(id, kept == null ? id : kept.getOrDefault(position, id)));
+                return kept == null ? Optional.of(envelope) : Optional.empty();
+            }
+            if (envelope.getPickle().isPresent()) {
+                return mergePickle(envelope.getPickle().get());
+            }
+            if (envelope.getStepDefinition().isPresent()) {
+                StepDefinition definition = envelope.getStepDefinition().get();
+                return mergeDefinition(List.of(definition.getPattern(), definition.getSourceReference()), definition.getId(), envelope);
+            }
+            if (envelope.getHook().isPresent()) {
+                Hook hook = envelope.getHook().get();
+                return mergeDefinition(Arrays.asList(hook.getName(), hook.getSourceReference(), hook.getTagExpression()), hook.getId(), envelope);
+            }
+            if (envelope.getParameterType().isPresent()) {
+                return keptParameterTypes.add(envelope.getParameterType().get().getName()) ? Optional.of(envelope) : Optional.empty();
+            }
+            if (envelope.getTestCase().isPresent()) {
+                TestCase testCase = envelope.getTestCase().get();
+                List<TestStep> steps = testCase.getTestSteps().stream()
+                        .map(step -> new TestStep(step.getHookId().map(this::kept).orElse(null), step.getId(),
+                                step.getPickleStepId().map(this::kept).orElse(null),
+                                step.getStepDefinitionIds().map(list -> list.stream().map(this::kept).toList()).orElse(null),
+                                step.getStepMatchArgumentsLists().orElse(null)))
+                        .toList();
+                return Optional.of(Envelope.of(new TestCase(testCase.getId(), kept(testCase.getPickleId()), steps)));
+            }
+            return Optional.of(envelope);
+        }
+
+        private Optional<Envelope> mergePickle(Pickle pickle) {
+            List<String> astNodeIds = pickle.getAstNodeIds().stream().map(this::kept).toList();
+            String key = pickle.getUri() + " " + astNodeIds;
+            String keptId = keptPickles.putIfAbsent(key, pickle.getId());
+            if (keptId != null) {
+                ids.put(pickle.getId(), keptId);
+                List<String> keptSteps = keptPickleSteps.get(keptId);
+                for (int i = 0; i < Math.min(keptSteps.size(), pickle.getSteps().size()); i++) {
+                    ids.put(pickle.getSteps().get(i).getId(), keptSteps.get(i));
+                }
+                return Optional.empty();
+            }
+
+            keptPickleSteps.put(pickle.getId(), pickle.getSteps().stream().map(PickleStep::getId).toList());
+            List<PickleStep> steps = pickle.getSteps().stream()
+                    .map(step -> new PickleStep(step.getArgument().orElse(null), step.getAstNodeIds().stream().map(this::kept).toList(),
+                            step.getId(), step.getType().orElse(null), step.getText()))
+                    .toList();
+            List<PickleTag> tags = pickle.getTags().stream()
+                    .map(tag -> new PickleTag(tag.getName(), kept(tag.getAstNodeId())))
+                    .toList();
+            return Optional.of(Envelope.of(new Pickle(pickle.getId(), pickle.getUri(), pickle.getName(), pickle.getLanguage(), steps, tags, astNodeIds)));
+        }
+
+        private Optional<Envelope> mergeDefinition(Object definition, String id, Envelope envelope) {
+            String keptId = keptDefinitions.putIfAbsent(definition, id);
+            if (keptId != null) {
+                ids.put(id, keptId);
+                return Optional.empty();
+            }
+            return Optional.of(envelope);
+        }
+
+        private String kept(String id) {
+            return ids.getOrDefault(id, id);
+        }
+
+        private static void indexAst(GherkinDocument document, Map<String, String> astIds) {
+            document.getFeature().ifPresent(feature -> {
+                feature.getTags().forEach(tag -> astIds.put(position(tag.getLocation()), tag.getId()));
+                for (FeatureChild child : feature.getChildren()) {
+                    child.getBackground().ifPresent(background -> indexBackground(background, astIds));
+                    child.getScenario().ifPresent(scenario -> indexScenario(scenario, astIds));
+                    child.getRule().ifPresent(rule -> {
+                        astIds.put(position(rule.getLocation()), rule.getId());
+                        rule.getTags().forEach(tag -> astIds.put(position(tag.getLocation()), tag.getId()));
+                        for (RuleChild ruleChild : rule.getChildren()) {
+                            ruleChild.getBackground().ifPresent(background -> indexBackground(background, astIds));
+                            ruleChild.getScenario().ifPresent(scenario -> indexScenario(scenario, astIds));
+                        }
+                    });
+                }
+            });
+        }
+
+        private static void indexBackground(Background background, Map<String, String> astIds) {
+            astIds.put(position(background.getLocation()), background.getId());
+            background.getSteps().forEach(step -> astIds.put(position(step.getLocation()), step.getId()));
+        }
+
+        private static void indexScenario(Scenario scenario, Map<String, String> astIds) {
+            astIds.put(position(scenario.getLocation()), scenario.getId());
+            scenario.getTags().forEach(tag -> astIds.put(position(tag.getLocation()), tag.getId()));
+            scenario.getSteps().forEach(step -> astIds.put(position(step.getLocation()), step.getId()));
+            for (Examples examples : scenario.getExamples()) {
+                astIds.put(position(examples.getLocation()), examples.getId());
+                examples.getTags().forEach(tag -> astIds.put(position(tag.getLocation()), tag.getId()));
+                examples.getTableHeader().ifPresent(row -> astIds.put(position(row.getLocation()), row.getId()));
+                examples.getTableBody().forEach(row -> astIds.put(position(row.getLocation()), row.getId()));
+            }
+        }
+
+        private static String position(Location location) {
+            return location.getLine() + ":" + location.getColumn().orElse(0L);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.basesetup.playwright.runners.distributed;
+
+import com.basesetup.playwright.plugins.MessagesJson;
+import io.cucumber.gherkin.GherkinParser;
+import io.cucumber.messages.types.Envelope;
+import io.cucumber.messages.types.Meta;
+import io.cucumber.messages.types.Pickle;
+import io.cucumber.messages.types.PickleStep;
+import io.cucumber.messages.types.Product;
+import io.cucumber.messages.types.SourceReference;
+import io.cucumber.messages.types.StepDefinition;
+import io.cucumber.messages.types.StepDefinitionPattern;
+import io.cucumber.messages.types.StepDefinitionPatternType;
+import io.cucumber.messages.types.TestCase;
+import io.cucumber.messages.types.TestStep;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ReportMergerTest {
+    private static final String URI = "features/login.feature";
+    private static final String FEATURE = """
+            Feature: Login
+
+              Background:
+                Given the login page
+
+              Scenario: Valid user
+                When I log in as "standard_user"
+                Then I see the inventory
+
+              Scenario Outline: Locked user <user>
+                When I log in as "<user>"
+                Then I see an error
+
+                Examples:
+                  | user          |
+                  | locked_out    |
+                  | problem_user  |
+            """;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void mergesRepeatedFeatureEnvelopesAndRemapsTestCases() throws Exception {
+        ReportMerger merger = new ReportMerger(folder.getRoot().toPath().resolve("messages.ndjson"));
+        merger.add("", run(0, 1)); // Each run emits the pickles it selected, with fresh ids
+        merger.add("", run(1, 2));
+
+        List<Envelope> merged = new ArrayList<>();
+        merger.writeMessages(merged::add);
+
+        List<Envelope> documents = merged.stream().filter(envelope -> envelope.getGherkinDocument().isPresent()).toList();
+        List<Pickle> pickles = merged.stream().flatMap(envelope -> envelope.getPickle().stream()).toList();
+        List<StepDefinition> definitions = merged.stream().flatMap(envelope -> envelope.getStepDefinition().stream()).toList();
+        List<TestCase> testCases = merged.stream().flatMap(envelope -> envelope.getTestCase().stream()).toList();
+        assertEquals(1, merged.stream().filter(envelope -> envelope.getMeta().isPresent()).count());
+        assertEquals(1, merged.stream().filter(envelope -> envelope.getSource().isPresent()).count());
+        assertEquals(1, documents.size());
+        assertEquals(3, pickles.size());
+        assertEquals(1, definitions.size());
+        assertEquals(4, testCases.size());
+
+        Set<String> astIds = ids(documents.get(0));
+        Map<String, Pickle> picklesById = new HashMap<>();
+        for (Pickle pickle : pickles) {
+            picklesById.put(pickle.getId(), pickle);
+            assertTrue(astIds.containsAll(pickle.getAstNodeIds()));
+            pickle.getSteps().forEach(step -> assertTrue(astIds.containsAll(step.getAstNodeIds())));
+        }
+        assertEquals(3, picklesById.size());
+
+        String definitionId = definitions.get(0).getId();
+        for (TestCase testCase : testCases) {
+            Pickle pickle = picklesById.get(testCase.getPickleId());
+            assertTrue("Unknown pickle " + testCase.getPickleId(), pickle != null);
+            List<String> stepIds = pickle.getSteps().stream().map(PickleStep::getId).toList();
+            for (TestStep step : testCase.getTestSteps()) {
+                assertTrue(stepIds.contains(step.getPickleStepId().orElseThrow()));
+                assertEquals(List.of(definitionId), step.getStepDefinitionIds().orElseThrow());
+            }
+        }
+    }
+
+    /**
+     * Builds the messages of one Cucumber run of the feature, with random ids like a real run.
+     *
+     * @param selected Indexes of the pickles the run executed.
+     */
+    private static String run(int... selected) {
+        List<Envelope> envelopes = new ArrayList<>();
+        envelopes.add(Envelope.of(new Meta("24.1.0", new Product("cucumber-jvm", "7.20.1"), new Product("java", "17"),
+                new Product("linux", null), new Product("x86_64", null), null)));
+        List<Pickle> pickles = new ArrayList<>();
+        GherkinParser.builder().idGenerator(() -> UUID.randomUUID().toString()).build()
+                .parse(URI, FEATURE.getBytes(StandardCharsets.UTF_8))
+                .forEach(envelope -> {
+                    if (envelope.getPickle().isPresent()) {
+                        pickles.add(envelope.getPickle().get());
+                    } else {
+                        envelopes.add(envelope);
+                    }
+                });
+        for (int index : selected) {
+            envelopes.add(Envelope.of(pickles.get(index)));
+        }
+
+        String definitionId = UUID.randomUUID().toString();
+        envelopes.add(Envelope.of(new StepDefinition(definitionId,
+                new StepDefinitionPattern("I log in as {string}", StepDefinitionPatternType.CUCUMBER_EXPRESSION),
+                SourceReference.of("LoginSteps.java"))));
+        for (int index : selected) {
+            Pickle pickle = pickles.get(index);
+            List<TestStep> steps = pickle.getSteps().stream()
+                    .map(step -> new TestStep(null, UUID.randomUUID().toString(), step.getId(), List.of(definitionId), List.of()))
+                    .toList();
+            envelopes.add(Envelope.of(new TestCase(UUID.randomUUID().toString(), pickle.getId(), steps)));
+        }
+
+        StringBuilder ndjson = new StringBuilder();
+        for (Envelope envelope : envelopes) {
+            StringWriter line = new StringWriter();
+            MessagesJson.write(line, envelope);
+            ndjson.append(line).append('\n');
+        }
+        return ndjson.toString();
+    }
+
+    private static Set<String> ids(Envelope document) {
+        StringWriter json = new StringWriter();
+        MessagesJson.write(json, document);
+        Set<String> ids = new HashSet<>();
+        Matcher matcher = Pattern.compile("\"id\":\"([^\"]+)\"").matcher(json.toString());
+        while (matcher.find()) {
+            ids.add(matcher.group(1));
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,156 @@
+package com.basesetup.playwright.runners.distributed;
+
+import io.cucumber.gherkin.GherkinParser;
+import io.cucumber.messages.types.Envelope;
+import io.cucumber.messages.types.Examples;
+import io.cucumber.messages.types.FeatureChild;
+import io.cucumber.messages.types.GherkinDocument;
+import io.cucumber.messages.types.Pickle;
+import io.cucumber.messages.types.PickleTag;
+import io.cucumber.messages.types.RuleChild;
+import io.cucumber.messages.types.Scenario;
+import io.cucumber.messages.types.TableRow;
+import io.cucumber.tagexpressions.Expression;
+import io.cucumber.tagexpressions.TagExpressionParser;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Finds the scenarios under a features directory as Cucumber "path:line" locations, which is the
+ * unit of work handed to distributed workers. Feature files are read with Cucumber's own Gherkin
+ * parser, so tags are inherited from features and rules exactly as in a normal run. Every pickle is
+ * one unit: each example of a Scenario Outline is located by its table row.
+ */
+public final class ScenarioDiscovery {
+    private static final GherkinParser parser = GherkinParser.builder()
+            .includeSource(false)
+            .includeGherkinDocument(true)
+            .includePickles(true)
+            .build();
+
+    /**
+     * A parsed feature file.
+     *
+     * @param file      The feature file.
+     * @param document  Its Gherkin AST.
+     * @param pickles   Its pickles in file order.
+     * @param scenarios Scenario AST nodes by id.
+     * @param lines     Line of every scenario and examples row by AST node id.
+     */
+    public record FeatureFile(Path file, GherkinDocument document, List<Pickle> pickles,
+                              Map<String, Scenario> scenarios, Map<String, Integer> lines) {
+
+        /**
+         * @return The "path:line" location Cucumber runs exactly this pickle for.
+         */
+        public String location(Pickle pickle) {
+            return file.toString().replace('\\', '/') + ":" + line(pickle);
+        }
+
+        /**
+         * @return The line of the pickle's examples row, or of its scenario.
+         */
+        public int line(Pickle pickle) {
+            List<String> ids = pickle.getAstNodeIds();
+            return lines.get(ids.size() > 1 ? ids.get(ids.size() - 1) : ids.get(0));
+        }
+
+        /**
+         * @return The scenario or outline the pickle was compiled from.
+         */
+        public Scenario scenario(Pickle pickle) {
+            return scenarios.get(pickle.getAstNodeIds().get(0));
+        }
+    }
+
+    private ScenarioDiscovery() {
+    }
+
+    /**
+     * @param root Features directory.
+     * @param tags Cucumber tag expression applied to feature, rule and scenario tags, or null for all.
+     * @return Scenario locations in file order.
+     */
+    public static List<String> discover(Path root, String tags) throws IOException {
+        Expression filter = tags == null || tags.isBlank() ? null : TagExpressionParser.parse(tags);
+        List<String> locations = new ArrayList<>();
+        for (FeatureFile feature : parse(root)) {
+            for (Pickle pickle : feature.pickles()) {
+                if (matches(pickle, filter)) {
+                    locations.add(feature.location(pickle));
+                }
+            }
+        }
+        return locations;
+    }
+
+    /**
+     * Parses every feature file under a directory, or a single feature file.
+     *
+     * @throws IllegalArgumentException If a feature file has a syntax error.
+     */
+    public static List<FeatureFile> parse(Path root) throws IOException {
+        List<FeatureFile> features = new ArrayList<>();
+        try (Stream<Path> files = Files.walk(root)) {
+            for (Path file : files.filter(path -> path.toString().endsWith(".feature")).sorted().toList()) {
+                features.add(parseFile(file));
+            }
+        }
+        return features;
+    }
+
+    /**
+     * @param filter Tag expression, or null for all.
+     * @return true when the pickle's tags, including inherited ones, match.
+     */
+    public static boolean matches(Pickle pickle, Expression filter) {
+        return filter == null || filter.evaluate(pickle.getTags().stream().map(PickleTag::getName).toList());
+    }
+
+    private static FeatureFile parseFile(Path file) throws IOException {
+        GherkinDocument document = null;
+        List<Pickle> pickles = new ArrayList<>();
+        try (Stream<Envelope> envelopes = parser.parse(file)) {
+            for (Envelope envelope : envelopes.toList()) {
+                if (envelope.getParseError().isPresent()) {
+                    throw new IllegalArgumentException("Cannot parse " + file + ": " + envelope.getParseError().get().getMessage());
+                }
+                if (envelope.getGherkinDocument().isPresent()) {
+                    document = envelope.getGherkinDocument().get();
+                }
+                envelope.getPickle().ifPresent(pickles::add);
+            }
+        }
+
+        Map<String, Scenario> scenarios = new HashMap<>();
+        Map<String, Integer> lines = new HashMap<>();
+        if (document != null && document.getFeature().isPresent()) {
+            for (FeatureChild child : document.getFeature().get().getChildren()) {
+                child.getScenario().ifPresent(scenario -> index(scenario, scenarios, lines));
+                child.getRule().ifPresent(rule -> rule.getChildren().stream()
+                        .map(RuleChild::getScenario)
+                        .flatMap(Optional::stream)
+                        .forEach(scenario -> index(scenario, scenarios, lines)));
+            }
+        }
+        return new FeatureFile(file, document, pickles, scenarios, lines);
+    }
+
+    private static void index(Scenario scenario, Map<String, Scenario> scenarios, Map<String, Integer> lines) {
+        scenarios.put(scenario.getId(), scenario);
+        lines.put(scenario.getId(), scenario.getLocation().getLine().intValue());
+        for (Examples examples : scenario.getExamples()) {
+            for (TableRow row : examples.getTableBody()) {
+                lines.put(row.getId(), row.getLocation().getLine().intValue());
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.basesetup.playwright.runners.distributed;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Scenario queue shared by all worker connections. Workers lease one scenario at a time; a lease
+ * held by a worker that disconnects or times out goes back to the front of the queue, until the
+ * scenario has been attempted maxAttempts times.
+ */
+final class WorkQueue {
+    private static final Logger logger = LoggerFactory.getLogger(WorkQueue.class);
+
+    private final List<String> locations;
+    private final int maxAttempts;
+    private final Deque<Integer> pending = new ArrayDeque<>();
+    private final Map<Integer, String> leases = new HashMap<>();
+    private final Map<Integer, Integer> attempts = new HashMap<>();
+    private final List<String> abandoned = new ArrayList<>();
+    private int completed;
+
+    WorkQueue(List<String> locations, int maxAttempts) {
+        this.locations = List.copyOf(locations);
+        this.maxAttempts = maxAttempts;
+        for (int id = 0; id < locations.size(); id++) {
+            pending.add(id);
+        }
+    }
+
+    /**
+     * @return The next scenario id for the worker, or empty when nothing is pending right now.
+     */
+    synchronized Optional<Integer> lease(String workerId) {
+        Integer id = pending.poll();
+        if (id == null) {
+            return Optional.empty();
+        }
+        leases.put(id, workerId);
+        attempts.merge(id, 1, Integer::sum);
+        return Optional.of(id);
+    }
+
+    synchronized String location(int id) {
+        return locations.get(id);
+    }
+
+    /**
+     * Marks a leased scenario as done. Results for leases the worker no longer holds are ignored.
+     *
+     * @return Whether the result should be kept.
+     */
+    synchronized boolean complete(int id, String workerId) {
+        if (!workerId.equals(leases.get(id))) {
+            return false;
+        }
+        leases.remove(id);
+        completed++;
+        notifyAll();
+        return true;
+    }
+
+    /**
+     * Puts every lease of a dead worker back on the queue.
+     */
+    synchronized void release(String workerId) {
+        Iterator<Map.Entry<Integer, String>> iterator = leases.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Integer, String> lease = iterator.next();
+            if (!lease.getValue().equals(workerId)) {
+                continue;
+            }
+            iterator.remove();
+            int id = lease.getKey();
+            if (attempts.get(id) < maxAttempts) {
+                pending.addFirst(id);
+                logger.warn("🔁 Worker {} lost | Re-queued {}", workerId, locations.get(id));
+            } else {
+                abandoned.add(locations.get(id));
+                logger.error("❌ Worker {} lost | Giving up on {} after {} attempts", workerId, locations.get(id), maxAttempts);
+            }
+        }
+        notifyAll();
+    }
+
+    synchronized boolean isFinished() {
+        return completed + abandoned.size() == locations.size();
+    }
+
+    synchronized void awaitFinished() throws InterruptedException {
+        while (!isFinished()) {
+            wait();
+        }
+    }
+
+    synchronized List<String> getAbandoned() {
+        return List.copyOf(abandoned);
+    }
+
+    int size() {
+        return locations.size();
+    }
+}
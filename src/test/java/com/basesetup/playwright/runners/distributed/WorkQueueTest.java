@@ -0,0 +1,84 @@
+package com.basesetup.playwright.runners.distributed;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class WorkQueueTest {
+
+    @Test
+    public void leasesScenariosInOrderUntilEmpty() {
+        WorkQueue queue = new WorkQueue(List.of("a.feature:2", "a.feature:5"), 2);
+
+        assertEquals(Optional.of(0), queue.lease("w1"));
+        assertEquals(Optional.of(1), queue.lease("w2"));
+        assertEquals(Optional.empty(), queue.lease("w1"));
+    }
+
+    @Test
+    public void finishesWhenEveryLeaseIsCompleted() {
+        WorkQueue queue = new WorkQueue(List.of("a.feature:2", "a.feature:5"), 2);
+        queue.lease("w1");
+        queue.lease("w2");
+
+        assertTrue(queue.complete(0, "w1"));
+        assertFalse(queue.isFinished());
+        assertTrue(queue.complete(1, "w2"));
+        assertTrue(queue.isFinished());
+    }
+
+    @Test
+    public void requeuesLeasesOfReleasedWorkerAtTheFront() {
+        WorkQueue queue = new WorkQueue(List.of("a.feature:2", "a.feature:5", "a.feature:8"), 2);
+        queue.lease("w1");
+
+        queue.release("w1");
+
+        assertEquals(Optional.of(0), queue.lease("w2"));
+        assertTrue(queue.getAbandoned().isEmpty());
+    }
+
+    @Test
+    public void ignoresResultOfLeaseNoLongerHeld() {
+        WorkQueue queue = new WorkQueue(List.of("a.feature:2"), 2);
+        queue.lease("w1");
+        queue.release("w1");
+        queue.lease("w2");
+
+        assertFalse(queue.complete(0, "w1"));
+        assertFalse(queue.isFinished());
+        assertTrue(queue.complete(0, "w2"));
+        assertTrue(queue.isFinished());
+    }
+
+    @Test
+    public void abandonsScenarioAfterMaxAttempts() {
+        WorkQueue queue = new WorkQueue(List.of("a.feature:2"), 2);
+        queue.lease("w1");
+        queue.release("w1");
+        queue.lease("w2");
+
+        queue.release("w2");
+
+        assertEquals(Optional.empty(), queue.lease("w3"));
+        assertEquals(List.of("a.feature:2"), queue.getAbandoned());
+        assertTrue(queue.isFinished());
+    }
+
+    @Test
+    public void releaseLeavesOtherWorkersLeasesAlone() {
+        WorkQueue queue = new WorkQueue(List.of("a.feature:2", "a.feature:5"), 2);
+        queue.lease("w1");
+        queue.lease("w2");
+
+        queue.release("w1");
+
+        assertTrue(queue.complete(1, "w2"));
+        assertEquals(Optional.of(0), queue.lease("w3"));
+    }
+}
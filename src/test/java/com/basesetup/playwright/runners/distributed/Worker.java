@@ -0,0 +1,128 @@
+package com.basesetup.playwright.runners.distributed;
+
+import com.basesetup.playwright.utils.managers.PlaywrightManager;
+import io.cucumber.core.cli.Main;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.ConnectException;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Worker of a distributed run. Each of its threads connects to the {@link Coordinator}, pulls
+ * scenarios one by one, runs them with its own browser and sends the json and message reports back.
+ *
+ * <pre>
+ * mvn -Pdistributed-worker test-compile exec:java -Ddistributed.coordinator=host:7070 -Ddistributed.threads=2
+ * </pre>
+ */
+public class Worker {
+    private static final Logger logger = LoggerFactory.getLogger(Worker.class);
+    private static final long CONNECT_RETRY_MS = TimeUnit.SECONDS.toMillis(30);
+
+    public static void main(String[] args) throws Exception {
+        String[] coordinator = System.getProperty("distributed.coordinator", "localhost:7070").split(":");
+        int threads = Integer.getInteger("distributed.threads", 1);
+        String workerId = System.getProperty("distributed.workerId", ProcessHandle.current().pid() + "");
+
+        System.setProperty("cucumber.publish.quiet", "true");
+        ExecutorService sessions = Executors.newFixedThreadPool(threads);
+        for (int i = 0; i < threads; i++) {
+            String sessionId = workerId + "-" + (i + 1);
+            sessions.submit(() -> runSession(coordinator[0], Integer.parseInt(coordinator[1]), sessionId));
+        }
+        sessions.shutdown();
+        sessions.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        System.exit(0);
+    }
+
+    private static void runSession(String host, int port, String sessionId) {
+        Thread.currentThread().setName("worker-" + sessionId);
+        try (Socket socket = connect(host, port);
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             PrintWriter out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8)) {
+            out.println("HELLO " + sessionId);
+            String tags = in.readLine().substring("WELCOME".length()).trim();
+            logger.info("🤝 Worker {} connected to {}:{}", sessionId, host, port);
+
+            while (true) {
+                out.println("NEXT");
+                String[] reply = in.readLine().split(" ", 3);
+                switch (reply[0]) {
+                    case "RUN" -> out.println(run(reply[1], reply[2], tags));
+                    case "WAIT" -> Thread.sleep(Long.parseLong(reply[1]));
+                    default -> {
+                        logger.info("👋 Worker {} finished", sessionId);
+                        return;
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            logger.error("❌ Worker {} aborted: {}", sessionId, e.getMessage(), e);
+        } finally {
+            PlaywrightManager.closeBrowser();
+        }
+    }
+
+    /**
+     * Runs one scenario and builds the RESULT line for it.
+     */
+    private static String run(String id, String location, String tags) throws IOException {
+        Path json = Files.createTempFile("scenario-" + id + "-", ".json");
+        Path messages = Files.createTempFile("scenario-" + id + "-", ".ndjson");
+        try {
+            List<String> runArgs = new ArrayList<>(List.of(
+                    "--glue", "com.basesetup.playwright.stepdefinitions",
+                    "--glue", "com.basesetup.playwright.hooks",
+                    "--plugin", "json:" + json,
+                    "--plugin", "message:" + messages,
+                    "--monochrome"));
+            if (!tags.isEmpty()) {
+                runArgs.addAll(List.of("--tags", tags));
+            }
+            runArgs.add(location);
+            byte exitStatus = Main.run(runArgs.toArray(String[]::new), Thread.currentThread().getContextClassLoader());
+            return String.join(" ", "RESULT", id, exitStatus == 0 ? "PASSED" : "FAILED", encode(json), encode(messages));
+        } finally {
+            Files.deleteIfExists(json);
+            Files.deleteIfExists(messages);
+        }
+    }
+
+    private static String encode(Path file) throws IOException {
+        byte[] content = Files.readAllBytes(file);
+        return content.length == 0 ? "-" : Base64.getEncoder().encodeToString(content);
+    }
+
+    /**
+     * Retries for a while so workers can be started before the coordinator.
+     */
+    private static Socket connect(String host, int port) throws IOException, InterruptedException {
+        long deadline = System.currentTimeMillis() + CONNECT_RETRY_MS;
+        while (true) {
+            try {
+                return new Socket(host, port);
+            } catch (ConnectException e) {
+                if (System.currentTimeMillis() > deadline) {
+                    throw e;
+                }
+                Thread.sleep(500);
+            }
+        }
+    }
+}
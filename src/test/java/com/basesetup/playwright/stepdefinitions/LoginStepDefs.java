@@ -2,6 +2,8 @@ package com.basesetup.playwright.stepdefinitions;
 
 import com.basesetup.playwright.pages.login.LoginPO;
 import com.basesetup.playwright.utils.config.PropertyFileReader;
+import com.basesetup.playwright.utils.data.DataFeed;
+import com.basesetup.playwright.utils.managers.ApiSessionManager;
 import com.basesetup.playwright.utils.managers.PlaywrightManager;
 import com.microsoft.playwright.Page;
 import io.cucumber.java.en.Given;
@@ -19,6 +21,11 @@ public class LoginStepDefs {
     public void userAccessesTheLoginPage() {
     }
 
+    @Given("User is logged in via API with username {string} and password {string}")
+    public void userIsLoggedInViaApi(String username, String password) {
+        ApiSessionManager.loginViaApi(username, password);
+    }
+
     @When("User enters username {string} and password {string}")
     public void userEntersUsernameAndPassword(String username, String password) {
         loginPage.enterUsername(username);
@@ -26,6 +33,12 @@ public class LoginStepDefs {
         loginPage.clickLogin();
     }
 
+    @When("User enters the credentials from the data record")
+    public void userEntersTheCredentialsFromTheDataRecord() {
+        DataFeed.DataRecord record = DataFeed.getCurrentRecord();
+        userEntersUsernameAndPassword(record.get("username"), record.get("password"));
+    }
+
     @Then("User redirected to the Home page")
     public void userRedirectedToTheHomePage() {
 
@@ -0,0 +1,60 @@
+package com.basesetup.playwright.stepdefinitions;
+
+import com.basesetup.playwright.helpers.AssertionHelper;
+import com.basesetup.playwright.utils.managers.PlaywrightManager;
+import com.basesetup.playwright.utils.metrics.PageMetrics;
+import com.basesetup.playwright.utils.metrics.PerformanceRecorder;
+import io.cucumber.java.en.Then;
+
+import java.util.function.ToDoubleFunction;
+
+public class PerformanceStepDefs {
+
+    @Then("page load time is under {int} ms")
+    public void pageLoadTimeIsUnder(int budgetMs) {
+        assertTimingUnder("Page load time", PageMetrics::loadTime, budgetMs);
+    }
+
+    @Then("time to first byte is under {int} ms")
+    public void timeToFirstByteIsUnder(int budgetMs) {
+        assertTimingUnder("Time to first byte", PageMetrics::timeToFirstByte, budgetMs);
+    }
+
+    @Then("DOM content loaded time is under {int} ms")
+    public void domContentLoadedTimeIsUnder(int budgetMs) {
+        assertTimingUnder("DOM content loaded time", PageMetrics::domContentLoaded, budgetMs);
+    }
+
+    @Then("first contentful paint is under {int} ms")
+    public void firstContentfulPaintIsUnder(int budgetMs) {
+        assertTimingUnder("First contentful paint", PageMetrics::firstContentfulPaint, budgetMs);
+    }
+
+    @Then("largest contentful paint is under {int} ms")
+    public void largestContentfulPaintIsUnder(int budgetMs) {
+        assertTimingUnder("Largest contentful paint", PageMetrics::largestContentfulPaint, budgetMs);
+    }
+
+    @Then("cumulative layout shift is under {double}")
+    public void cumulativeLayoutShiftIsUnder(double budget) {
+        double actual = currentMetrics().cumulativeLayoutShift();
+        AssertionHelper.assertTrue(actual < budget,
+                String.format("Cumulative layout shift %.4f is under budget %.4f", actual, budget));
+    }
+
+    private void assertTimingUnder(String name, ToDoubleFunction<PageMetrics> metric, int budgetMs) {
+        double actual = metric.applyAsDouble(currentMetrics());
+        AssertionHelper.assertTrue(actual >= 0, name + " is available on the current page");
+        AssertionHelper.assertTrue(actual < budgetMs,
+                String.format("%s %.0f ms is under budget %d ms", name, actual, budgetMs));
+    }
+
+    /**
+     * Reads fresh numbers so LCP and CLS include everything observed so far, without adding a sample.
+     */
+    private PageMetrics currentMetrics() {
+        PageMetrics metrics = PerformanceRecorder.measure(PlaywrightManager.getPage());
+        AssertionHelper.assertTrue(metrics != null, "Performance metrics were captured (capturePerformance must be enabled)");
+        return metrics;
+    }
+}
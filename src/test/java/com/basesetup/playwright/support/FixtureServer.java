@@ -0,0 +1,79 @@
+package com.basesetup.playwright.support;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Minimal in-process static file server (JDK HttpServer) used as a local stand-in
+ * for the system under test. Directory requests are served their index.html.
+ */
+public class FixtureServer implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(FixtureServer.class);
+
+    private final Path root;
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    /**
+     * Starts a server on a free loopback port.
+     *
+     * @param root    Directory whose files are served.
+     * @param threads Number of request handler threads.
+     */
+    public FixtureServer(Path root, int threads) throws IOException {
+        this.root = root.toAbsolutePath().normalize();
+        this.executor = Executors.newFixedThreadPool(threads);
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.server.createContext("/", this::handle);
+        this.server.setExecutor(executor);
+        this.server.start();
+        logger.info("🧪 Fixture server started at {} serving {}", getBaseUrl(), this.root);
+    }
+
+    /**
+     * @return The base URL of the server, ending with a slash.
+     */
+    public String getBaseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/";
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            Path file = root.resolve(exchange.getRequestURI().getPath().substring(1)).normalize();
+            if (Files.isDirectory(file)) {
+                file = file.resolve("index.html");
+            }
+
+            if (!file.startsWith(root) || !Files.isRegularFile(file)) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+
+            String contentType = URLConnection.guessContentTypeFromName(file.getFileName().toString());
+            exchange.getResponseHeaders().set("Content-Type", contentType != null ? contentType : "application/octet-stream");
+            exchange.sendResponseHeaders(200, Files.size(file));
+            try (OutputStream body = exchange.getResponseBody()) {
+                Files.copy(file, body);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+        logger.info("🛑 Fixture server stopped");
+    }
+}
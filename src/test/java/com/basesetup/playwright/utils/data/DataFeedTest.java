@@ -0,0 +1,109 @@
+package com.basesetup.playwright.utils.data;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+
+public class DataFeedTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void joinsQuotedCsvFieldsSpanningLines() throws IOException {
+        List<DataFeed.DataRecord> records = readAll("users.csv", """
+                username,note
+                alice,"first line
+                second line"
+                bob,plain
+                """, 0, 1);
+
+        assertEquals(2, records.size());
+        assertEquals("first line\nsecond line", records.get(0).get("note"));
+        assertEquals("bob", records.get(1).get("username"));
+        assertEquals(1, records.get(1).index());
+    }
+
+    @Test
+    public void unescapesDoubledQuotes() throws IOException {
+        List<DataFeed.DataRecord> records = readAll("users.csv", """
+                username,note
+                alice,"say ""hi"", then leave"
+                bob,"a ""quoted""
+                line break"
+                """, 0, 1);
+
+        assertEquals("say \"hi\", then leave", records.get(0).get("note"));
+        assertEquals("a \"quoted\"\nline break", records.get(1).get("note"));
+    }
+
+    @Test
+    public void fillsMissingTrailingCsvFieldsWithEmptyStrings() throws IOException {
+        List<DataFeed.DataRecord> records = readAll("users.csv", """
+                username,password,role
+                alice
+                """, 0, 1);
+
+        assertEquals("alice", records.get(0).get("username"));
+        assertEquals("", records.get(0).get("password"));
+        assertEquals("", records.get(0).get("role"));
+    }
+
+    @Test
+    public void keepsNonPrimitiveJsonValuesAsJson() throws IOException {
+        List<DataFeed.DataRecord> records = readAll("users.jsonl", """
+                {"username":"alice","age":30,"roles":["admin","user"],"address":{"city":"Oslo"}}
+                """, 0, 1);
+
+        DataFeed.DataRecord record = records.get(0);
+        assertEquals("alice", record.get("username"));
+        assertEquals("30", record.get("age"));
+        assertEquals("[\"admin\",\"user\"]", record.get("roles"));
+        assertEquals("{\"city\":\"Oslo\"}", record.get("address"));
+    }
+
+    @Test
+    public void shardsByRecordIndexAcrossBlankLinesAndMultiLineRecords() throws IOException {
+        String csv = """
+                username,note
+                u0,"a
+                b"
+                u1,x
+
+                u2,x
+                u3,"c
+                d"
+                u4,x
+                """;
+
+        assertEquals(List.of(0L, 2L, 4L), indexes(readAll("users.csv", csv, 0, 2)));
+        assertEquals(List.of(1L, 3L), indexes(readAll("users.csv", csv, 1, 2)));
+        assertEquals("u3", readAll("users.csv", csv, 1, 2).get(1).get("username"));
+    }
+
+    private List<DataFeed.DataRecord> readAll(String name, String content, int shardIndex, int shardCount) throws IOException {
+        Path file = folder.getRoot().toPath().resolve(name);
+        Files.writeString(file, content);
+        List<DataFeed.DataRecord> records = new ArrayList<>();
+        try (DataFeed feed = new DataFeed(file, shardIndex, shardCount)) {
+            Optional<DataFeed.DataRecord> record;
+            while ((record = feed.next()).isPresent()) {
+                records.add(record.get());
+            }
+        }
+        return records;
+    }
+
+    private static List<Long> indexes(List<DataFeed.DataRecord> records) {
+        return records.stream().map(DataFeed.DataRecord::index).toList();
+    }
+}
@@ -0,0 +1,6 @@
+@datafeed
+Feature: Data-driven login
+  Scenario: User logs in with credentials from the data feed
+    Given User accesses the Login page
+    When User enters the credentials from the data record
+    Then User redirected to the Home page